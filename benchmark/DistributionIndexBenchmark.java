@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.ballerinalang.command.util.Distribution;
+import org.ballerinalang.command.util.JsonUtil;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the streaming parser of the distribution index with the regular expressions the update tool used before
+ * it, on a synthetic index.
+ *
+ * Usage, with the jar of the tool built by gradle and JDK 11 or later:
+ * java -cp build/libs/ballerina-command-&lt;version&gt;.jar benchmark/DistributionIndexBenchmark.java
+ * [distributions] [rounds]
+ *
+ * Both parsers are warmed up by the rounds, and the fastest round of each is printed in milliseconds.
+ */
+public class DistributionIndexBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        byte[] json = createIndex(size).getBytes(StandardCharsets.UTF_8);
+
+        long regexTime = Long.MAX_VALUE;
+        long streamingTime = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            parseWithRegex(new ByteArrayInputStream(json));
+            regexTime = Math.min(regexTime, System.nanoTime() - start);
+            start = System.nanoTime();
+            JsonUtil.parseDistributions(new ByteArrayInputStream(json));
+            streamingTime = Math.min(streamingTime, System.nanoTime() - start);
+        }
+        System.out.printf("%d distributions (%d KB), best of %d rounds%n", size, json.length / 1024, rounds);
+        System.out.printf("  regex      %8.1f ms%n", regexTime / 1e6);
+        System.out.printf("  streaming  %8.1f ms%n", streamingTime / 1e6);
+    }
+
+    private static String createIndex(int size) {
+        StringBuilder json = new StringBuilder("{\"list\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"Update ").append(i).append("\",\"version\":\"2201.").append(i)
+                    .append(".0\",\"type\":\"ballerina\",\"channel\":\"channel ").append(i % 3)
+                    .append("\",\"dependencies\":[{\"name\":\"jdk-").append(i % 5).append("\"}]}");
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    /**
+     * Parses the distributions the way the update tool did before the streaming reader.
+     */
+    private static List<Distribution> parseWithRegex(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                sb.append(line).append("\n");
+            }
+        }
+        String json = sb.toString();
+        List<Distribution> distributions = new ArrayList<>();
+        Matcher matcher = Pattern.compile("\"version\":\"(.*?)\"").matcher(json);
+        while (matcher.find()) {
+            distributions.add(new Distribution(matcher.group(1)));
+        }
+        matcher = Pattern.compile("\"type\":\"(.*?)\"").matcher(json);
+        int i = 0;
+        while (matcher.find()) {
+            distributions.get(i++).setType(matcher.group(1));
+        }
+        matcher = Pattern.compile("\"channel\":\"(.*?)\"").matcher(json);
+        i = 0;
+        while (matcher.find()) {
+            distributions.get(i++).setChannel(matcher.group(1));
+        }
+        matcher = Pattern.compile("\"name\":\"(.*?)\"").matcher(json);
+        int distIndex = 0;
+        int count = 0;
+        while (matcher.find()) {
+            if (count++ % 2 == 0) {
+                distributions.get(distIndex).setName(matcher.group(1));
+            } else {
+                distributions.get(distIndex).setDependency(matcher.group(1));
+                distIndex++;
+            }
+        }
+        return distributions;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.ballerinalang.command.util.OSUtils;
+import org.ballerinalang.command.util.ZipUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Compares the extraction of a distribution archive with the ZipInputStream the update tool used before ZipUtil,
+ * with ZipUtil from the archive file and with ZipUtil from a stream of the archive.
+ *
+ * Usage, with the jar of the tool built by gradle and JDK 11 or later:
+ * java -cp build/libs/ballerina-command-&lt;version&gt;.jar benchmark/ZipExtractBenchmark.java [archive] [rounds]
+ *
+ * The archive is a distribution or JRE zip, such as one downloaded with bal dist pull or from the remote server. A
+ * synthetic archive of a similar size and shape is created when none is given. The destination of each extraction
+ * is removed before the next one, and the time of each round is printed in milliseconds.
+ */
+public class ZipExtractBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        Path workDir = Files.createTempDirectory("zip-extract-benchmark");
+        try {
+            Path archive = args.length > 0 ? Paths.get(args[0]) : createArchive(workDir.resolve("distribution.zip"));
+            int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+            System.out.printf("%s (%d MB), %d rounds with %d processors%n", archive.getFileName(),
+                    Files.size(archive) / (1024 * 1024), rounds, Runtime.getRuntime().availableProcessors());
+            Path destination = workDir.resolve("extracted");
+            for (int round = 1; round <= rounds; round++) {
+                long unzipTime = time(() -> unzip(archive.toString(), destination.toString()), destination);
+                long fileTime = time(() -> ZipUtil.extract(archive, destination, ZipUtil.UNSPECIFIED_MODE),
+                        destination);
+                long streamTime = time(() -> {
+                    try (InputStream in = Files.newInputStream(archive)) {
+                        ZipUtil.extract(in, destination, ZipUtil.UNSPECIFIED_MODE);
+                    }
+                }, destination);
+                System.out.printf("  round %d  unzip %6d ms  ZipUtil file %6d ms  ZipUtil stream %6d ms%n", round,
+                        unzipTime, fileTime, streamTime);
+            }
+        } finally {
+            OSUtils.deleteFiles(workDir);
+        }
+    }
+
+    private static long time(Extraction extraction, Path destination) throws IOException {
+        long start = System.nanoTime();
+        extraction.run();
+        long time = (System.nanoTime() - start) / 1000000;
+        OSUtils.deleteFiles(destination);
+        return time;
+    }
+
+    /**
+     * Extracts the archive the way the update tool did before ZipUtil.
+     */
+    private static void unzip(String zipFilePath, String destDirectory) throws IOException {
+        File destDir = new File(destDirectory);
+        if (!destDir.exists()) {
+            destDir.mkdir();
+        }
+        try (ZipInputStream zipIn = new ZipInputStream(new FileInputStream(zipFilePath))) {
+            ZipEntry entry = zipIn.getNextEntry();
+            while (entry != null) {
+                String filePath = destDirectory + File.separator + entry.getName();
+                if (!entry.isDirectory()) {
+                    BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(filePath));
+                    byte[] bytesIn = new byte[1024];
+                    int read;
+                    while ((read = zipIn.read(bytesIn)) != -1) {
+                        bos.write(bytesIn, 0, read);
+                    }
+                    bos.close();
+                } else {
+                    File dir = new File(filePath);
+                    dir.mkdir();
+                }
+                zipIn.closeEntry();
+                entry = zipIn.getNextEntry();
+            }
+        }
+    }
+
+    /**
+     * Creates an archive shaped like a distribution: directories listed before their files, thousands of small
+     * compressible files and a few hundred jars which do not compress, about 300 MB when extracted.
+     */
+    private static Path createArchive(Path archive) throws IOException {
+        Random random = new Random(1);
+        byte[] jar = new byte[1024 * 1024];
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 32 * 1024) {
+            text.append("public function main() returns error? { io:println(\"Hello, World!\"); }\n");
+        }
+        byte[] source = text.toString().getBytes(StandardCharsets.UTF_8);
+        try (ZipOutputStream zipOut = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archive)))) {
+            for (String directory : new String[]{"ballerina-2201.0.0/", "ballerina-2201.0.0/repo/",
+                    "ballerina-2201.0.0/repo/bala/", "ballerina-2201.0.0/repo/bala/ballerina/"}) {
+                zipOut.putNextEntry(new ZipEntry(directory));
+                zipOut.closeEntry();
+            }
+            for (int module = 0; module < 60; module++) {
+                String directory = "ballerina-2201.0.0/repo/bala/ballerina/module" + module + "/";
+                zipOut.putNextEntry(new ZipEntry(directory));
+                zipOut.closeEntry();
+                for (int file = 0; file < 120; file++) {
+                    zipOut.putNextEntry(new ZipEntry(directory + "file" + file + ".bal"));
+                    zipOut.write(source, 0, 1024 + random.nextInt(source.length - 1024));
+                    zipOut.closeEntry();
+                }
+            }
+            String libDirectory = "ballerina-2201.0.0/lib/";
+            zipOut.putNextEntry(new ZipEntry(libDirectory));
+            zipOut.closeEntry();
+            for (int file = 0; file < 250; file++) {
+                zipOut.putNextEntry(new ZipEntry(libDirectory + "library" + file + ".jar"));
+                random.nextBytes(jar);
+                zipOut.write(jar, 0, jar.length / 4 + random.nextInt(jar.length * 3 / 4));
+                zipOut.closeEntry();
+            }
+        }
+        return archive;
+    }
+
+    private interface Extraction {
+        void run() throws IOException;
+    }
+}
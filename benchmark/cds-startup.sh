@@ -0,0 +1,120 @@
+#!/bin/bash
+# ---------------------------------------------------------------------------
+#  Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+#
+#  Licensed under the Apache License, Version 2.0 (the "License");
+#  you may not use this file except in compliance with the License.
+#  You may obtain a copy of the License at
+#
+#  http://www.apache.org/licenses/LICENSE-2.0
+#
+#  Unless required by applicable law or agreed to in writing, software
+#  distributed under the License is distributed on an "AS IS" BASIS,
+#  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+#  See the License for the specific language governing permissions and
+#  limitations under the License.
+# ---------------------------------------------------------------------------
+
+# Measures the startup time of the update tool with and without the class-data-sharing archive the launcher dumps.
+#
+# Usage: benchmark/cds-startup.sh <installation directory> [runs]
+#
+# The installation directory is an extracted ballerina-command zip with a bundled JRE in its dependencies
+# directory, such as the one the installers lay out. The commands are run through the launcher and directly with
+# java, and the average wall time of the runs is printed in milliseconds. The archive and the class list are moved
+# aside for the runs without the archive, so that the launcher does not dump the archive, and are restored at the
+# end. GNU date is needed for the timings.
+
+set -e
+
+if [ -z "$1" ]; then
+    echo "Usage: $0 <installation directory> [runs]"
+    exit 1
+fi
+INSTALLATION=$(cd "$1" && pwd)
+RUNS=${2:-20}
+COMMANDS=("-v" "help" "dist use --help")
+
+TOOL_JAR=$(ls "$INSTALLATION"/lib/ballerina-command-*.jar)
+CDS_ARCHIVE="${TOOL_JAR%.jar}.jsa"
+CDS_CLASS_LIST="${TOOL_JAR%.jar}.classlist"
+# The same JRE the launcher prefers, since the archive is only valid for the JRE it was dumped with
+JAVA_COMMAND=$(ls -d "$INSTALLATION"/dependencies/jdk-*/bin/java 2>/dev/null | sort -V | tail -1)
+if [ -z "$JAVA_COMMAND" ] || [ ! -f "$CDS_CLASS_LIST" ]; then
+    echo "A bundled JRE and the class list of the tool are required in '$INSTALLATION'"
+    exit 1
+fi
+
+# The commands must start a JVM each time
+unset BALLERINA_TOOL_DAEMON
+
+ASIDE=$(mktemp -d)
+restore() {
+    if [ -f "$ASIDE/classlist" ]; then
+        mv -f "$ASIDE/classlist" "$CDS_CLASS_LIST"
+    fi
+    rm -rf "$ASIDE"
+}
+trap restore EXIT
+
+average() {
+    local start end
+    start=$(date +%s%N)
+    for ((i = 0; i < RUNS; i++)); do
+        "$@" >/dev/null 2>&1 || true
+    done
+    end=$(date +%s%N)
+    echo $(( (end - start) / RUNS / 1000000 ))
+}
+
+measure() {
+    local label=$1
+    shift
+    for command in "${COMMANDS[@]}"; do
+        # The command is split into its arguments on purpose
+        # shellcheck disable=SC2086
+        printf "  %-24s %-8s %6s ms\n" "$command" "$label" "$("$@" $command)"
+    done
+}
+
+launcher() {
+    average "$INSTALLATION/bin/bal" "$@"
+}
+
+java_without_archive() {
+    average "$JAVA_COMMAND" -jar "$TOOL_JAR" "$@"
+}
+
+java_with_archive() {
+    average "$JAVA_COMMAND" -XX:SharedArchiveFile="$CDS_ARCHIVE" -jar "$TOOL_JAR" "$@"
+}
+
+echo "$RUNS runs with $("$JAVA_COMMAND" -version 2>&1 | head -1)"
+
+rm -f "$CDS_ARCHIVE"
+mv "$CDS_CLASS_LIST" "$ASIDE/classlist"
+echo "Through the launcher"
+measure before launcher
+echo "Through java"
+measure before java_without_archive
+
+# The launcher dumps the archive in the background on its first run with the class list
+mv "$ASIDE/classlist" "$CDS_CLASS_LIST"
+start=$(date +%s%N)
+"$INSTALLATION/bin/bal" -v >/dev/null 2>&1 || true
+for ((i = 0; i < 600; i++)); do
+    if [ -f "$CDS_ARCHIVE" ]; then
+        break
+    fi
+    sleep 0.1
+done
+if [ ! -f "$CDS_ARCHIVE" ]; then
+    echo "The launcher did not dump '$CDS_ARCHIVE'"
+    exit 1
+fi
+echo "Dumped the archive in $(( ($(date +%s%N) - start) / 1000000 )) ms"
+
+echo "Through the launcher"
+measure after launcher
+echo "Through java"
+measure after java_with_archive
@@ -80,14 +80,43 @@ if exist %CURRENT_PATH%..\dependencies\jdk-25.0.3+9-jre (
     )
 )
 
+rem Share the class data of the tool between runs with the bundled JRE. The archive is only valid for the JRE and
+rem the jar location it was dumped with, hence it is dumped here in the background from the class list of the build.
+set TOOL_JAR=%CURRENT_PATH%..\lib\ballerina-command-@version@.jar
+set CDS_ARCHIVE=%CURRENT_PATH%..\lib\ballerina-command-@version@.jsa
+set CDS_CLASS_LIST=%CURRENT_PATH%..\lib\ballerina-command-@version@.classlist
+set CDS_OPTS=
+if not "%JAVA_CMD%" == "java" if "%JAVA_CMD:jdk8u=%" == "%JAVA_CMD%" (
+    if exist "%CDS_ARCHIVE%" (
+        set CDS_OPTS=-XX:SharedArchiveFile=%CDS_ARCHIVE%
+    ) else if exist "%CDS_CLASS_LIST%" (
+        rem The lib directory is not writable for the user in every installation
+        (type nul > "%CDS_ARCHIVE%.tmp") 2>nul && (
+            del /q "%CDS_ARCHIVE%.tmp"
+            start "" /b cmd /c "%JAVA_CMD% -Xshare:dump -XX:SharedClassListFile=%CDS_CLASS_LIST% -XX:SharedArchiveFile=%CDS_ARCHIVE%.tmp -cp %TOOL_JAR% >nul 2>&1 && move /y %CDS_ARCHIVE%.tmp %CDS_ARCHIVE% >nul 2>&1"
+        )
+    )
+)
+
 if "%dist%" == "true" (
    if not "%build%" == "true" (
        set RUN_BALLERINA=false;
    )
    if "%build%" == "true" (
-        %JAVA_CMD% -jar %CURRENT_PATH%..\lib\ballerina-command-@version@.jar build
+        rem Print the notice left by the last update check and check again in the background
+        if exist "%USERPROFILE%\.ballerina\update-notice" (
+            type "%USERPROFILE%\.ballerina\update-notice"
+            del /q "%USERPROFILE%\.ballerina\update-notice"
+        )
+        rem The check is started once the last one is a day old. Since forfiles only compares dates, it waits for
+        rem the second day so that the tool never declines the check it was started for
+        if not exist "%USERPROFILE%\.ballerina\command-notice" (
+            start "" /b %JAVA_CMD% %CDS_OPTS% -jar %TOOL_JAR% build --background >nul 2>&1
+        ) else (
+            forfiles /p "%USERPROFILE%\.ballerina" /m command-notice /d -2 >nul 2>&1 && start "" /b %JAVA_CMD% %CDS_OPTS% -jar %TOOL_JAR% build --background >nul 2>&1
+        )
    ) else (
-        %JAVA_CMD% -jar %CURRENT_PATH%..\lib\ballerina-command-@version@.jar %*
+        %JAVA_CMD% %CDS_OPTS% -jar %TOOL_JAR% %*
    )
    if "%update%" == "true" if exist  %CURRENT_PATH%..\ballerina-command-tmp (
         call %CURRENT_PATH%\..\ballerina-command-tmp\install.bat
@@ -140,7 +169,7 @@ if "%1" == "-v" set merge=true
 if "%1" == "--version" set merge=true
 
 if "%merge%" == "true" (
-    %JAVA_CMD% -jar %CURRENT_PATH%..\lib\ballerina-command-@version@.jar %*
+    %JAVA_CMD% %CDS_OPTS% -jar %TOOL_JAR% %*
 )
 
 exit /b
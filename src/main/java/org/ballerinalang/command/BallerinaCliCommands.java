@@ -31,5 +31,7 @@ public class BallerinaCliCommands {
     public static final String PULL = "pull";
     public static final String USE = "use";
     public static final String REMOVE = "remove";
+    public static final String BATCH = "batch";
+    public static final String SYNC = "sync";
     public static final String VERSION = "version";
 }
@@ -17,6 +17,7 @@
 package org.ballerinalang.command;
 
 import org.ballerinalang.command.cmd.BCommand;
+import org.ballerinalang.command.cmd.BatchCommand;
 import org.ballerinalang.command.cmd.BuildCommand;
 import org.ballerinalang.command.cmd.DefaultCommand;
 import org.ballerinalang.command.cmd.DistributionCommand;
@@ -24,6 +25,7 @@ import org.ballerinalang.command.cmd.HelpCommand;
 import org.ballerinalang.command.cmd.ListCommand;
 import org.ballerinalang.command.cmd.PullCommand;
 import org.ballerinalang.command.cmd.RemoveCommand;
+import org.ballerinalang.command.cmd.SyncCommand;
 import org.ballerinalang.command.cmd.UpdateCommand;
 import org.ballerinalang.command.cmd.UpdateToolCommand;
 import org.ballerinalang.command.cmd.UseCommand;
@@ -44,89 +46,107 @@ public class Main {
     private static PrintStream errStream = System.err;
 
     public static void main(String... args) {
+        int exitCode = execute(outStream, errStream, args);
+        if (exitCode != 0) {
+            Runtime.getRuntime().exit(exitCode);
+        }
+    }
+
+    /**
+     * Executes the command given by the arguments.
+     *
+     * @param outStream stream which the output of the command should be printed
+     * @param errStream stream which the errors should be printed
+     * @param args      command arguments
+     * @return exit code of the command
+     */
+    static int execute(PrintStream outStream, PrintStream errStream, String... args) {
         try {
-            Optional<BCommand> optionalInvokedCmd = getInvokedCmd(args);
+            Optional<BCommand> optionalInvokedCmd = getInvokedCmd(outStream, args);
             optionalInvokedCmd.ifPresent(BCommand::execute);
+            return 0;
         } catch (CommandException e) {
             ErrorUtil.printLauncherException(e, errStream);
-            Runtime.getRuntime().exit(1);
+            return 1;
         } catch (Throwable e) {
             errStream.println(e.getMessage());
-            Runtime.getRuntime().exit(1);
+            return 1;
         }
     }
 
-    private static Optional<BCommand> getInvokedCmd(String... args) {
-        try {
-            DefaultCommand defaultCmd = new DefaultCommand(outStream);
-            CommandLine cmdParser = new CommandLine(defaultCmd);
-            defaultCmd.setParentCmdParser(cmdParser);
+    private static Optional<BCommand> getInvokedCmd(PrintStream outStream, String... args) {
+        DefaultCommand defaultCmd = new DefaultCommand(outStream);
+        CommandLine cmdParser = new CommandLine(defaultCmd);
+        defaultCmd.setParentCmdParser(cmdParser);
 
-            HelpCommand helpCommand = new HelpCommand();
-            cmdParser.addSubcommand(BallerinaCliCommands.HELP, helpCommand);
-            helpCommand.setParentCmdParser(cmdParser);
+        HelpCommand helpCommand = new HelpCommand(outStream);
+        cmdParser.addSubcommand(BallerinaCliCommands.HELP, helpCommand);
+        helpCommand.setParentCmdParser(cmdParser);
 
-            //DistCommand Command
-            DistributionCommand distCmd = new DistributionCommand(outStream);
-            CommandLine distCmdParser = new CommandLine(distCmd);
-            distCmd.setParentCmdParser(distCmdParser);
+        //DistCommand Command
+        DistributionCommand distCmd = new DistributionCommand(outStream);
+        CommandLine distCmdParser = new CommandLine(distCmd);
+        distCmd.setParentCmdParser(distCmdParser);
 
-            ListCommand listCmd = new ListCommand(outStream);
-            distCmdParser.addSubcommand(BallerinaCliCommands.LIST, listCmd);
-            listCmd.setParentCmdParser(distCmdParser);
+        ListCommand listCmd = new ListCommand(outStream);
+        distCmdParser.addSubcommand(BallerinaCliCommands.LIST, listCmd);
+        listCmd.setParentCmdParser(distCmdParser);
 
-            PullCommand pullCmd = new PullCommand(outStream);
-            distCmdParser.addSubcommand(BallerinaCliCommands.PULL, pullCmd);
-            pullCmd.setParentCmdParser(distCmdParser);
+        PullCommand pullCmd = new PullCommand(outStream);
+        distCmdParser.addSubcommand(BallerinaCliCommands.PULL, pullCmd);
+        pullCmd.setParentCmdParser(distCmdParser);
 
-//          FetchCommand fetchCmd = new FetchCommand(outStream);
-//          distCmdParser.addSubcommand(BallerinaCliCommands.FETCH, fetchCmd);
-//          fetchCmd.setParentCmdParser(distCmdParser);
+//      FetchCommand fetchCmd = new FetchCommand(outStream);
+//      distCmdParser.addSubcommand(BallerinaCliCommands.FETCH, fetchCmd);
+//      fetchCmd.setParentCmdParser(distCmdParser);
 
-            RemoveCommand removeCmd = new RemoveCommand(outStream);
-            distCmdParser.addSubcommand(BallerinaCliCommands.REMOVE, removeCmd);
-            removeCmd.setParentCmdParser(distCmdParser);
+        RemoveCommand removeCmd = new RemoveCommand(outStream);
+        distCmdParser.addSubcommand(BallerinaCliCommands.REMOVE, removeCmd);
+        removeCmd.setParentCmdParser(distCmdParser);
 
-            UpdateCommand updateCmd = new UpdateCommand(outStream);
-            distCmdParser.addSubcommand(BallerinaCliCommands.UPDATE, updateCmd);
-            updateCmd.setParentCmdParser(distCmdParser);
+        UpdateCommand updateCmd = new UpdateCommand(outStream);
+        distCmdParser.addSubcommand(BallerinaCliCommands.UPDATE, updateCmd);
+        updateCmd.setParentCmdParser(distCmdParser);
 
-            UseCommand useCmd = new UseCommand(outStream);
-            distCmdParser.addSubcommand(BallerinaCliCommands.USE, useCmd);
-            useCmd.setParentCmdParser(distCmdParser);
+        UseCommand useCmd = new UseCommand(outStream);
+        distCmdParser.addSubcommand(BallerinaCliCommands.USE, useCmd);
+        useCmd.setParentCmdParser(distCmdParser);
 
-            distCmdParser.setCommandName("dist");
-            distCmdParser.setPosixClusteredShortOptionsAllowed(false);
+        BatchCommand batchCmd = new BatchCommand(outStream);
+        distCmdParser.addSubcommand(BallerinaCliCommands.BATCH, batchCmd);
+        batchCmd.setParentCmdParser(distCmdParser);
 
-            cmdParser.addSubcommand(BallerinaCliCommands.DIST, distCmdParser);
+        SyncCommand syncCmd = new SyncCommand(outStream);
+        distCmdParser.addSubcommand(BallerinaCliCommands.SYNC, syncCmd);
+        syncCmd.setParentCmdParser(distCmdParser);
 
-            UpdateToolCommand updateToolCommand = new UpdateToolCommand(outStream);
-            cmdParser.addSubcommand(BallerinaCliCommands.UPDATE, updateToolCommand);
-            updateToolCommand.setParentCmdParser(cmdParser);
+        distCmdParser.setCommandName("dist");
+        distCmdParser.setPosixClusteredShortOptionsAllowed(false);
 
-            BuildCommand buildCommand = new BuildCommand(outStream);
-            cmdParser.addSubcommand(BallerinaCliCommands.BUILD, buildCommand);
-            buildCommand.setParentCmdParser(cmdParser);
+        cmdParser.addSubcommand(BallerinaCliCommands.DIST, distCmdParser);
 
-            VersionCommand versionCmd = new VersionCommand(outStream);
-            cmdParser.addSubcommand(BallerinaCliCommands.VERSION, versionCmd);
-            versionCmd.setParentCmdParser(cmdParser);
+        UpdateToolCommand updateToolCommand = new UpdateToolCommand(outStream);
+        cmdParser.addSubcommand(BallerinaCliCommands.UPDATE, updateToolCommand);
+        updateToolCommand.setParentCmdParser(cmdParser);
 
-            cmdParser.setCommandName("ballerina");
-            cmdParser.setPosixClusteredShortOptionsAllowed(false);
+        BuildCommand buildCommand = new BuildCommand(outStream);
+        cmdParser.addSubcommand(BallerinaCliCommands.BUILD, buildCommand);
+        buildCommand.setParentCmdParser(cmdParser);
 
-            List<CommandLine> parsedCommands = cmdParser.parse(args);
+        VersionCommand versionCmd = new VersionCommand(outStream);
+        cmdParser.addSubcommand(BallerinaCliCommands.VERSION, versionCmd);
+        versionCmd.setParentCmdParser(cmdParser);
 
-            if (parsedCommands.size() < 1) {
-                return Optional.of(defaultCmd);
-            }
+        cmdParser.setCommandName("ballerina");
+        cmdParser.setPosixClusteredShortOptionsAllowed(false);
 
-            return Optional.of(parsedCommands.get(parsedCommands.size() - 1).getCommand());
-        } catch (CommandException e) {
-            ErrorUtil.printLauncherException(e, errStream);
-            Runtime.getRuntime().exit(1);
-            return null;
+        List<CommandLine> parsedCommands = cmdParser.parse(args);
+
+        if (parsedCommands.size() < 1) {
+            return Optional.of(defaultCmd);
         }
+
+        return Optional.of(parsedCommands.get(parsedCommands.size() - 1).getCommand());
     }
 
 
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command;
+
+import org.ballerinalang.command.util.OSUtils;
+import org.ballerinalang.command.util.ToolContext;
+import org.ballerinalang.command.util.ToolUtil;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Long-lived process which executes the commands forwarded by the launcher, so that the classes, the SSL context,
+ * the network settings and the distribution index are loaded once for many commands.
+ *
+ * The daemon listens on a loopback port and writes the port, a random token, the tool version and the installation
+ * path to the daemon file in the ballerina home directory. A request is made of the lines
+ * {@code <token> <environment values> <working directory> <argument count> <arguments>}, and the paths given in the
+ * arguments are resolved against the working directory. The response is a sequence of frames, each terminated by a
+ * NUL byte: {@code o<text>} for the standard output, {@code e<text>} for the standard error and {@code x<exit code>}
+ * at the end. {@code r} is sent instead when the environment of the launcher differs from the one of the daemon, and
+ * {@code l} when the command reads the standard input which the daemon does not receive, in which case the launcher
+ * runs the command by itself. Commands are executed one at a time and the daemon exits once it has not received a request for
+ * the idle timeout.
+ *
+ * The launcher closes the connection when it is interrupted. Since the download of a command cannot be interrupted
+ * while it waits for the network, the daemon then exits like the process of the command would have, and is started
+ * again by the next command.
+ */
+public class ToolDaemon {
+    // Environment variables read by the tool, which the launcher sends in the same order
+    static final List<String> ENVIRONMENT = Arrays.asList("HOME", "SUDO_USER", "BALLERINA_MAC_ARCHITECTURE",
+            "BALLERINA_STAGING_UPDATE", "BALLERINA_DEV_UPDATE", "TEST_MODE_ACTIVE", "BALLERINA_DIST_CACHE_TTL",
+            "BALLERINA_DOWNLOAD_CONNECTIONS", "BALLERINA_DOWNLOAD_STREAMING", "BALLERINA_CA_BUNDLE",
+            "BALLERINA_CA_PASSWORD", "BALLERINA_CA_CERT");
+    static final char OUT = 'o';
+    static final char ERR = 'e';
+    static final char EXIT = 'x';
+    static final char RETRY = 'r';
+    static final char LOCAL = 'l';
+
+    private static final long IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(30);
+    private static final int REQUEST_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(10);
+    private static final int TOKEN_LENGTH = 16;
+    private static final int ABORTED_EXIT_CODE = 130;
+
+    private final ServerSocket serverSocket;
+    private final String token;
+    private final List<String> environment;
+    private final Runnable abort;
+
+    ToolDaemon(ServerSocket serverSocket, String token, List<String> environment) {
+        this(serverSocket, token, environment, () -> Runtime.getRuntime().exit(ABORTED_EXIT_CODE));
+    }
+
+    ToolDaemon(ServerSocket serverSocket, String token, List<String> environment, Runnable abort) {
+        this.serverSocket = serverSocket;
+        this.token = token;
+        this.environment = environment;
+        this.abort = abort;
+    }
+
+    public static void main(String... args) throws Exception {
+        Path daemonFile = Paths.get(OSUtils.getDaemonFilePath());
+        String token = createToken();
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout((int) IDLE_TIMEOUT);
+            String installationPath = new File(OSUtils.getInstallationPath()).getCanonicalPath();
+            writeDaemonFile(daemonFile, serverSocket.getLocalPort() + "\n" + token + "\n" +
+                    ToolUtil.getCurrentToolsVersion() + "\n" + installationPath + "\n");
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteDaemonFile(daemonFile, token)));
+            new ToolDaemon(serverSocket, token, getEnvironment()).serve();
+        }
+    }
+
+    private static void deleteDaemonFile(Path daemonFile, String token) {
+        try {
+            // Another daemon may have replaced the file in the meantime
+            List<String> lines = Files.readAllLines(daemonFile, StandardCharsets.UTF_8);
+            if (lines.size() > 1 && lines.get(1).equals(token)) {
+                Files.delete(daemonFile);
+            }
+        } catch (IOException e) {
+            // The launcher ignores the file of a daemon which does not accept connections
+        }
+    }
+
+    /**
+     * Executes the forwarded commands until no request is received for the idle timeout of the server socket.
+     *
+     * @throws IOException if the server socket fails
+     */
+    void serve() throws IOException {
+        while (true) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketTimeoutException e) {
+                return;
+            }
+            try (Socket client = socket) {
+                handle(client);
+            } catch (IOException e) {
+                // The launcher disconnected, hence there is no one to report to
+            }
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        socket.setSoTimeout(REQUEST_TIMEOUT);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                StandardCharsets.UTF_8));
+        String requestToken = reader.readLine();
+        if (requestToken == null || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                requestToken.getBytes(StandardCharsets.UTF_8))) {
+            return;
+        }
+        List<String> requestEnvironment = readLines(reader, ENVIRONMENT.size());
+        Path workingDirectory = toAbsolutePath(reader.readLine());
+        String argCount = reader.readLine();
+        if (requestEnvironment == null || workingDirectory == null || argCount == null ||
+                !argCount.matches("\\d{1,4}")) {
+            return;
+        }
+        List<String> args = readLines(reader, Integer.parseInt(argCount));
+        if (args == null) {
+            return;
+        }
+        socket.setSoTimeout(0);
+
+        OutputStream socketStream = socket.getOutputStream();
+        if (!requestEnvironment.equals(environment)) {
+            writeFrame(socketStream, RETRY, new byte[0]);
+            return;
+        }
+        if (readsStandardInput(args)) {
+            writeFrame(socketStream, LOCAL, new byte[0]);
+            return;
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        Runnable abortCommand = () -> {
+            if (running.get()) {
+                abort.run();
+            }
+        };
+        watchDisconnect(socket, abortCommand);
+        // PrintStream swallows the errors of the frames, hence the command is aborted by the frame stream itself
+        PrintStream out = new PrintStream(new FrameOutputStream(socketStream, OUT, abortCommand), true, "UTF-8");
+        PrintStream err = new PrintStream(new FrameOutputStream(socketStream, ERR, abortCommand), true, "UTF-8");
+        // The active version may have been changed by a command which was not forwarded
+        ToolUtil.resetInvocationState();
+        ToolContext.getInstance().setWorkingDirectory(workingDirectory);
+        int exitCode;
+        try {
+            exitCode = Main.execute(out, err, args.toArray(new String[0]));
+        } finally {
+            ToolContext.getInstance().setWorkingDirectory(null);
+        }
+        out.flush();
+        err.flush();
+        running.set(false);
+        writeFrame(socketStream, EXIT, String.valueOf(exitCode).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Aborts the command once the launcher closes the connection. The launcher sends nothing after the request,
+     * hence the end of the stream means the launcher has gone.
+     */
+    private static void watchDisconnect(Socket socket, Runnable abortCommand) {
+        Thread watcher = new Thread(() -> {
+            try {
+                if (socket.getInputStream().read() != -1) {
+                    return;
+                }
+            } catch (IOException e) {
+                // The connection is reset or closed once the command has completed
+            }
+            abortCommand.run();
+        }, "tool-daemon-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private static Path toAbsolutePath(String path) {
+        if (path == null) {
+            return null;
+        }
+        try {
+            Path workingDirectory = Paths.get(path);
+            return workingDirectory.isAbsolute() ? workingDirectory : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the command reads the standard input, which is {@code bal dist batch} without a file or with
+     * {@code -}.
+     */
+    private static boolean readsStandardInput(List<String> args) {
+        if (args.size() < 2 || !BallerinaCliCommands.DIST.equals(args.get(0)) ||
+                !BallerinaCliCommands.BATCH.equals(args.get(1))) {
+            return false;
+        }
+        for (String arg : args.subList(2, args.size())) {
+            if (arg.equals("-")) {
+                return true;
+            }
+            if (!arg.startsWith("-")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> readLines(BufferedReader reader, int count) throws IOException {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static synchronized void writeFrame(OutputStream stream, char type, byte[] content) throws IOException {
+        stream.write(type);
+        stream.write(content);
+        stream.write(0);
+        stream.flush();
+    }
+
+    private static List<String> getEnvironment() {
+        List<String> values = new ArrayList<>(ENVIRONMENT.size());
+        for (String name : ENVIRONMENT) {
+            String value = System.getenv(name);
+            values.add(value == null ? "" : value);
+        }
+        return values;
+    }
+
+    private static String createToken() {
+        byte[] bytes = new byte[TOKEN_LENGTH];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b));
+        }
+        return token.toString();
+    }
+
+    private static void writeDaemonFile(Path daemonFile, String content) throws IOException {
+        Files.createDirectories(daemonFile.getParent());
+        Path tempFile = Files.createTempFile(daemonFile.getParent(), daemonFile.getFileName().toString(), ".tmp");
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            // Only the user may read the token
+            Files.setPosixFilePermissions(tempFile, PosixFilePermissions.fromString("rw-------"));
+        }
+        Files.write(tempFile, content.getBytes(StandardCharsets.UTF_8));
+        Files.move(tempFile, daemonFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Sends the bytes written to a stream of a command as a frame whenever the stream is flushed, and aborts the
+     * command if the frame cannot be sent.
+     */
+    private static class FrameOutputStream extends OutputStream {
+        private final OutputStream socketStream;
+        private final char type;
+        private final Runnable abortCommand;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        FrameOutputStream(OutputStream socketStream, char type, Runnable abortCommand) {
+            this.socketStream = socketStream;
+            this.type = type;
+            this.abortCommand = abortCommand;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer.size() > 0) {
+                try {
+                    writeFrame(socketStream, type, buffer.toByteArray());
+                } catch (IOException e) {
+                    abortCommand.run();
+                    throw e;
+                } finally {
+                    buffer.reset();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+import org.ballerinalang.command.exceptions.CommandException;
+import org.ballerinalang.command.util.Channel;
+
+import java.util.List;
+
+/**
+ * Local and remote distributions of the installation.
+ */
+public class DistributionList {
+    private final String activeVersion;
+    private final List<String> localVersions;
+    private final List<Channel> channels;
+    private final CommandException remoteError;
+
+    DistributionList(String activeVersion, List<String> localVersions, List<Channel> channels,
+                     CommandException remoteError) {
+        this.activeVersion = activeVersion;
+        this.localVersions = localVersions;
+        this.channels = channels;
+        this.remoteError = remoteError;
+    }
+
+    public String getActiveVersion() {
+        return activeVersion;
+    }
+
+    /**
+     * Provides the versions of the local distributions ordered by their directory names.
+     *
+     * @return local versions, an empty version for a directory which is not named after a version, or null if the
+     * distributions directory cannot be read
+     */
+    public List<String> getLocalVersions() {
+        return localVersions;
+    }
+
+    /**
+     * Provides the remote distributions grouped by channel. The distributions of a channel are ordered from the
+     * latest version, except for the pre-release channels which keep the order of the remote server.
+     *
+     * @return remote channels, which is empty if the remote server could not be reached
+     */
+    public List<Channel> getChannels() {
+        return channels;
+    }
+
+    /**
+     * Provides the error which prevented the remote distributions from being listed.
+     *
+     * @return error or null if the remote distributions are listed
+     */
+    public CommandException getRemoteError() {
+        return remoteError;
+    }
+}
@@ -0,0 +1,643 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+import org.ballerinalang.command.exceptions.CommandException;
+import org.ballerinalang.command.util.Channel;
+import org.ballerinalang.command.util.Distribution;
+import org.ballerinalang.command.util.DistributionIndex;
+import org.ballerinalang.command.util.DownloadProgress;
+import org.ballerinalang.command.util.ErrorUtil;
+import org.ballerinalang.command.util.InstallationLayout;
+import org.ballerinalang.command.util.OSUtils;
+import org.ballerinalang.command.util.ToolUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-process API to manage the Ballerina distributions of the installation, which the dist commands are built on.
+ *
+ * The operations return typed results and throw {@link CommandException} when they fail. The distribution index,
+ * the SSL context and the network settings are shared by the operations of the process, hence a caller such as an
+ * IDE plugin can keep one instance for many operations. Progress messages of the operations, such as the progress
+ * bar of a download, are printed to the given stream.
+ */
+public class DistributionManager {
+    private static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 3;
+
+    private final PrintStream printStream;
+    private final Function<String, DistributionIndex> distributionIndex;
+    private final InstallationLayout layout;
+    private boolean testMode;
+    private int maxConcurrentDownloads = DEFAULT_MAX_CONCURRENT_DOWNLOADS;
+
+    /**
+     * Creates a distribution manager.
+     *
+     * @param printStream stream which progress messages should be printed
+     */
+    public DistributionManager(PrintStream printStream) {
+        this.printStream = printStream;
+        this.distributionIndex = version -> ToolUtil.getDistributionIndex(printStream, version);
+        this.layout = InstallationLayout.getInstance();
+    }
+
+    /**
+     * Creates a distribution manager which reads the remote distributions from the given index instead of the one of
+     * the remote server.
+     *
+     * @param printStream       stream which progress messages should be printed
+     * @param distributionIndex provides the distribution index
+     */
+    DistributionManager(PrintStream printStream, Supplier<DistributionIndex> distributionIndex) {
+        this(printStream, distributionIndex, InstallationLayout.getInstance());
+    }
+
+    /**
+     * Creates a distribution manager which reads the remote distributions from the given index and the local
+     * distributions and dependencies from the given installation layout.
+     *
+     * @param printStream       stream which progress messages should be printed
+     * @param distributionIndex provides the distribution index
+     * @param layout            layout of the installation
+     */
+    DistributionManager(PrintStream printStream, Supplier<DistributionIndex> distributionIndex,
+                        InstallationLayout layout) {
+        this.printStream = printStream;
+        this.distributionIndex = version -> distributionIndex.get();
+        this.layout = layout;
+    }
+
+    /**
+     * Marks the downloads as tests for the remote server, so that they are not counted as distribution downloads.
+     *
+     * @param testMode whether the downloads are tests
+     */
+    public void setTestMode(boolean testMode) {
+        this.testMode = testMode;
+    }
+
+    /**
+     * Discards the state kept from the previous operations which other processes may have changed since, such as
+     * the active version. The distribution index is kept while it is fresh.
+     */
+    public void refresh() {
+        ToolUtil.resetInvocationState();
+    }
+
+    public String getActiveVersion() {
+        return ToolUtil.getCurrentBallerinaVersion();
+    }
+
+    /**
+     * Lists the local distributions and the distributions published in the remote server. The local distributions
+     * are listed even if the remote server cannot be reached.
+     *
+     * @return local and remote distributions
+     */
+    public DistributionList list() {
+        String activeVersion = ToolUtil.getCurrentBallerinaVersion();
+        File[] listOfFiles = layout.getDistributionsPath().toFile().listFiles();
+        List<String> localVersions = listOfFiles == null ? null : getLocalVersions(listOfFiles);
+        try {
+            List<Channel> channels = new ArrayList<>();
+            for (Channel channel : distributionIndex.apply(null).getChannels()) {
+                List<Distribution> distributions = new ArrayList<>(channel.getDistributions());
+                if (!channel.getName().contains(ToolUtil.PRE_RELEASE)) {
+                    distributions.sort(Comparator.comparing(Distribution::getBallerinaVersion).reversed());
+                }
+                channels.add(new Channel(channel.getName(), distributions));
+            }
+            return new DistributionList(activeVersion, localVersions, channels, null);
+        } catch (CommandException e) {
+            return new DistributionList(activeVersion, localVersions, Collections.emptyList(), e);
+        }
+    }
+
+    /**
+     * Resolves the version of a distribution published in the remote server.
+     *
+     * @param version distribution version, or {@code latest} for the latest patch of the latest channel
+     * @return distribution version
+     */
+    public String resolve(String version) {
+        if (version.equals(ToolUtil.LATEST_PULL_INPUT)) {
+            String latestVersion = getLatestVersion(distributionIndex.apply(null));
+            if (latestVersion == null) {
+                throw ErrorUtil.createDistributionNotFoundException(version);
+            }
+            return latestVersion;
+        }
+        if (!distributionIndex.apply(version).contains(version)) {
+            throw ErrorUtil.createDistributionNotFoundException(version);
+        }
+        return version;
+    }
+
+    /**
+     * Downloads the distribution and its dependency unless the distribution is available locally. The active
+     * distribution is not changed.
+     *
+     * @param version  distribution version published in the remote server
+     * @param listener listener which receives the download progress or null
+     * @return true if the distribution was available locally
+     */
+    public boolean fetch(String version, DownloadListener listener) {
+        ToolUtil.handleInstallDirPermission();
+        return ToolUtil.downloadDistribution(printStream, version, ToolUtil.getType(version), version, testMode,
+                listener);
+    }
+
+    /**
+     * Downloads the distribution unless it is available locally and sets it as the active distribution.
+     *
+     * @param version  distribution version, or {@code latest} for the latest patch of the latest channel
+     * @param listener listener which receives the download progress or null
+     * @return pulled distribution
+     */
+    public PullResult pull(String version, DownloadListener listener) {
+        String distribution = resolve(version);
+        if (distribution.equals(ToolUtil.getCurrentBallerinaVersion())) {
+            return new PullResult(distribution, PullResult.Status.ALREADY_ACTIVE);
+        }
+        boolean availableLocally = fetch(distribution, listener);
+        ToolUtil.useBallerinaVersion(printStream, distribution);
+        return new PullResult(distribution, availableLocally ? PullResult.Status.ACTIVATED :
+                PullResult.Status.DOWNLOADED);
+    }
+
+    /**
+     * Sets a local distribution as the active distribution.
+     *
+     * @param version distribution version
+     * @return outcome, which tells whether the distribution has to be pulled when it is not available locally
+     */
+    public UseResult use(String version) {
+        if (version.equals(ToolUtil.getCurrentBallerinaVersion())) {
+            return UseResult.ALREADY_ACTIVE;
+        }
+        if (ToolUtil.checkDistributionAvailable(version)) {
+            ToolUtil.useBallerinaVersion(printStream, version);
+            return UseResult.ACTIVATED;
+        }
+        return distributionIndex.apply(version).contains(version) ? UseResult.NOT_INSTALLED :
+                UseResult.NOT_FOUND;
+    }
+
+    /**
+     * Removes a local distribution other than the active one, along with its dependency unless another local
+     * distribution depends on it.
+     *
+     * @param version distribution version
+     * @return removed distribution and dependency
+     */
+    public RemoveResult remove(String version) {
+        if (version.equals(ToolUtil.getCurrentBallerinaVersion())) {
+            throw ErrorUtil.createCommandException("The active Ballerina distribution cannot be removed");
+        }
+        ToolUtil.handleInstallDirPermission();
+        String fileName = deleteDistribution(version);
+        String dependency = ToolUtil.removeUnusedDependencies(version, printStream);
+        return new RemoveResult(Collections.singletonList(fileName),
+                dependency == null ? Collections.emptyList() : Collections.singletonList(dependency));
+    }
+
+    private String deleteDistribution(String version) {
+        String fileName = ToolUtil.getType(version) + "-" + version;
+        File directory = layout.getDistributionsPath().resolve(fileName).toFile();
+        if (!directory.exists()) {
+            throw ErrorUtil.createCommandException("distribution '" + version + "' not found");
+        }
+        try {
+            OSUtils.deleteFiles(directory.toPath());
+            OSUtils.deleteCaches(version, printStream);
+        } catch (IOException e) {
+            throw ErrorUtil.createCommandException("error occurred while removing '" + version + "'");
+        }
+        return fileName;
+    }
+
+    /**
+     * Removes all the local distributions other than the active one, along with the dependencies the active
+     * distribution does not depend on.
+     *
+     * @return removed distributions and dependencies, which are empty if only the active distribution is available
+     */
+    public RemoveResult removeAll() {
+        ToolUtil.handleInstallDirPermission();
+        List<String> removedDistributions = new ArrayList<>();
+        List<String> removedDependencies = new ArrayList<>();
+        try {
+            File folder = layout.getDistributionsPath().toFile();
+            File[] listOfFiles = folder.listFiles();
+            // checking for 2 files for zip pack and 3 files for installers
+            if (listOfFiles.length == 2 || (listOfFiles.length == 3 && folder.toPath().resolve("installer-version").
+                    toFile().exists())) {
+                return new RemoveResult(removedDistributions, removedDependencies);
+            }
+            String activeDistribution = ToolUtil.getCurrentBallerinaVersion();
+            for (File file : listOfFiles) {
+                if (file.isDirectory()) {
+                    String version = "";
+                    String fileName = file.getName();
+                    String[] parts = fileName.split("-");
+                    if (parts.length == 2) {
+                        version = parts[1];
+                    }
+                    if (!version.equals(activeDistribution) || version.equals("")) {
+                        OSUtils.deleteFiles(file.toPath());
+                        removedDistributions.add(fileName);
+                    }
+                }
+            }
+            String dependencyForActiveDistribution = ToolUtil.getDependency(printStream, activeDistribution,
+                    ToolUtil.getType(activeDistribution), activeDistribution);
+            File[] dependencies = layout.getDependenciesPath().toFile().listFiles();
+            if (dependencies == null) {
+                throw ErrorUtil.createCommandException("No dependencies found");
+            }
+            if (dependencies.length > 1) {
+                printStream.println("Removing unused dependencies");
+                for (File dependency : dependencies) {
+                    if (dependency.isDirectory() && !dependency.getName().equals(dependencyForActiveDistribution)) {
+                        OSUtils.deleteFiles(dependency.toPath());
+                        removedDependencies.add(dependency.getName());
+                    }
+                }
+            }
+        } catch (IOException | NullPointerException e) {
+            throw ErrorUtil.createCommandException("error occurred while removing the distributions" + e);
+        }
+        return new RemoveResult(removedDistributions, removedDependencies);
+    }
+
+    /**
+     * Sets the maximum number of distributions downloaded at the same time by {@link #fetchAll(Collection)}.
+     *
+     * @param maxConcurrentDownloads maximum number of concurrent downloads, at least 1
+     */
+    public void setMaxConcurrentDownloads(int maxConcurrentDownloads) {
+        if (maxConcurrentDownloads < 1) {
+            throw ErrorUtil.createCommandException("the number of concurrent downloads must be at least 1");
+        }
+        this.maxConcurrentDownloads = maxConcurrentDownloads;
+    }
+
+    /**
+     * Downloads distributions which are not available locally at the same time, without changing the active
+     * distribution. A dependency which is not available locally is downloaded along with the first distribution
+     * needing it, and the other distributions needing it start once that distribution has completed so that the
+     * dependency is downloaded once. Concurrent downloads are shown as one progress along with the number of
+     * completed distributions, and the outcome of each distribution is printed once all of them have completed.
+     *
+     * @param versions distribution versions published in the remote server
+     * @return errors of the failed downloads by distribution version, which is empty if all succeeded
+     */
+    public Map<String, CommandException> fetchAll(Collection<String> versions) {
+        Map<String, String> dependencies = new LinkedHashMap<>();
+        for (String version : versions) {
+            if (!ToolUtil.checkDistributionAvailable(version)) {
+                dependencies.put(version, ToolUtil.getDependency(printStream, version, ToolUtil.getType(version),
+                        version));
+            }
+        }
+        Map<String, CommandException> errors = new ConcurrentHashMap<>();
+        if (dependencies.isEmpty()) {
+            return errors;
+        }
+        int threads = Math.min(dependencies.size(), maxConcurrentDownloads);
+        if (threads == 1) {
+            // Downloads one after the other with the progress of each distribution
+            for (String version : dependencies.keySet()) {
+                try {
+                    fetch(version, null);
+                } catch (CommandException e) {
+                    errors.put(version, e);
+                }
+            }
+            return errors;
+        }
+
+        // The messages of the concurrent downloads would break the combined progress
+        DistributionManager downloadManager = new DistributionManager(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        }));
+        downloadManager.setTestMode(testMode);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "distribution-download");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<String> fetched = Collections.synchronizedList(new ArrayList<>());
+        int total = dependencies.size();
+        try (DownloadProgress progress = new DownloadProgress("Downloading " + total + " distributions",
+                printStream)) {
+            progress.setStatus("0/" + total + " done");
+            // Downloads of the missing dependencies, which the other distributions needing them wait for
+            Map<String, CompletableFuture<Void>> dependencyDownloads = new HashMap<>();
+            List<CompletableFuture<Void>> downloads = new ArrayList<>();
+            for (Map.Entry<String, String> entry : dependencies.entrySet()) {
+                String version = entry.getKey();
+                Runnable download = () -> {
+                    try {
+                        downloadManager.fetch(version, progress.createItemListener());
+                        fetched.add(version);
+                    } catch (CommandException e) {
+                        errors.put(version, e);
+                    }
+                    progress.setStatus((fetched.size() + errors.size()) + "/" + total + " done");
+                };
+                CompletableFuture<Void> dependencyDownload = dependencyDownloads.get(entry.getValue());
+                if (dependencyDownload != null) {
+                    // The dependency is still missing if its download failed, in which case the distributions
+                    // waiting for it try it one at a time
+                    downloads.add(dependencyDownload.thenRunAsync(() -> {
+                        if (ToolUtil.checkDependencyAvailable(entry.getValue())) {
+                            download.run();
+                            return;
+                        }
+                        synchronized (dependencyDownload) {
+                            download.run();
+                        }
+                    }, executorService));
+                    continue;
+                }
+                CompletableFuture<Void> distributionDownload = CompletableFuture.runAsync(download,
+                        executorService);
+                if (!ToolUtil.checkDependencyAvailable(entry.getValue())) {
+                    dependencyDownloads.put(entry.getValue(), distributionDownload);
+                }
+                downloads.add(distributionDownload);
+            }
+            CompletableFuture.allOf(downloads.toArray(new CompletableFuture<?>[0])).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ErrorUtil.createCommandException("interrupted while downloading the distributions");
+        } catch (ExecutionException e) {
+            throw ErrorUtil.createCommandException("error occurred while downloading the distributions: " +
+                    e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+        for (String version : fetched) {
+            printStream.println("'" + version + "' fetched");
+        }
+        return errors;
+    }
+
+    /**
+     * Changes the local distributions to match the manifest. The missing distributions are downloaded at the same
+     * time, the active distribution is set, the distributions which are not listed are removed unless the manifest
+     * keeps them, and the dependencies which no local distribution depends on are removed. The distribution index is
+     * only read when a distribution has to be resolved or downloaded, or a dependency may be unused.
+     *
+     * @param manifest desired state of the local distributions
+     * @return changes made
+     */
+    public SyncResult sync(DistributionManifest manifest) {
+        List<String> localVersions = getLocalDistributionVersions(layout.getDistributionsPath().toFile());
+        Map<String, String> resolvedVersions = resolveVersions(manifest, localVersions);
+        List<String> missing = getMissingVersions(resolvedVersions, localVersions);
+        List<String> downloaded = new ArrayList<>();
+        if (!missing.isEmpty()) {
+            ToolUtil.handleInstallDirPermission();
+            Map<String, CommandException> errors = fetchAll(missing);
+            if (!errors.isEmpty()) {
+                CommandException exception = ErrorUtil.createCommandException("failed to fetch " +
+                        String.join(", ", errors.keySet()));
+                for (CommandException error : errors.values()) {
+                    error.getMessages().forEach(exception::addMessage);
+                }
+                throw exception;
+            }
+            downloaded.addAll(missing);
+        }
+
+        String activated = null;
+        String active = resolvedVersions.get(manifest.getActive());
+        if (!active.equals(ToolUtil.getCurrentBallerinaVersion())) {
+            ToolUtil.useBallerinaVersion(printStream, active);
+            activated = active;
+        }
+
+        List<String> removedDistributions = new ArrayList<>();
+        for (String version : getUnlistedVersions(manifest, resolvedVersions, localVersions)) {
+            ToolUtil.handleInstallDirPermission();
+            removedDistributions.add(deleteDistribution(version));
+        }
+        List<String> removedDependencies = removeUnreferencedDependencies();
+        return new SyncResult(downloaded, activated, removedDistributions, removedDependencies);
+    }
+
+    /**
+     * Provides the distributions a sync with the manifest would download, so that the update tool can be checked
+     * before any of them is downloaded. Only the versions which are not local are looked up in the index.
+     *
+     * @param manifest desired state of the local distributions
+     * @return versions which are not available locally
+     */
+    public List<String> getMissingVersions(DistributionManifest manifest) {
+        List<String> localVersions = getLocalDistributionVersions(layout.getDistributionsPath().toFile());
+        return getMissingVersions(resolveVersions(manifest, localVersions), localVersions);
+    }
+
+    private Map<String, String> resolveVersions(DistributionManifest manifest, List<String> localVersions) {
+        Map<String, String> resolvedVersions = new LinkedHashMap<>();
+        for (String version : manifest.getDistributions()) {
+            // A local distribution is known to be valid, hence only the others are looked up in the index
+            resolvedVersions.put(version, localVersions.contains(version) ? version : resolve(version));
+        }
+        return resolvedVersions;
+    }
+
+    private static List<String> getMissingVersions(Map<String, String> resolvedVersions, List<String> localVersions) {
+        List<String> missing = new ArrayList<>();
+        for (String version : resolvedVersions.values()) {
+            if (!localVersions.contains(version) && !missing.contains(version)) {
+                missing.add(version);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Provides the local distributions a sync removes, which are the ones the manifest does not list unless its
+     * retention keeps them.
+     *
+     * @param manifest         desired state of the local distributions
+     * @param resolvedVersions versions of the manifest mapped to the distribution versions they resolve to
+     * @param localVersions    versions of the local distributions
+     * @return versions to remove
+     */
+    static List<String> getUnlistedVersions(DistributionManifest manifest, Map<String, String> resolvedVersions,
+                                            List<String> localVersions) {
+        List<String> unlisted = new ArrayList<>();
+        if (manifest.getRetention() == DistributionManifest.Retention.REMOVE) {
+            for (String version : localVersions) {
+                if (!resolvedVersions.containsValue(version)) {
+                    unlisted.add(version);
+                }
+            }
+        }
+        return unlisted;
+    }
+
+    private List<String> removeUnreferencedDependencies() {
+        Path toolRuntime;
+        try {
+            toolRuntime = new File(System.getProperty("java.home")).getCanonicalFile().toPath();
+        } catch (IOException e) {
+            // The runtime of the update tool is not known, hence no dependency is safe to remove
+            return new ArrayList<>();
+        }
+        return removeUnreferencedDependencies(layout.getDistributionsPath().toFile(),
+                layout.getDependenciesPath().toFile(), toolRuntime, () -> distributionIndex.apply(null));
+    }
+
+    /**
+     * Removes the dependencies which no local distribution depends on, except the runtime of the update tool. The
+     * dependencies are kept if the dependency of a local distribution is not known. The index is only read when a
+     * dependency may be unused.
+     *
+     * @param distributionsDirectory directory of the local distributions
+     * @param dependenciesDirectory  directory of the local dependencies
+     * @param toolRuntime            canonical path of the runtime the update tool runs on
+     * @param distributionIndex      provides the index the dependencies of the local distributions are read from
+     * @return removed dependencies
+     */
+    static List<String> removeUnreferencedDependencies(File distributionsDirectory, File dependenciesDirectory,
+                                                       Path toolRuntime,
+                                                       Supplier<DistributionIndex> distributionIndex) {
+        File[] dependencies = dependenciesDirectory.listFiles(File::isDirectory);
+        List<String> removed = new ArrayList<>();
+        if (dependencies == null || dependencies.length == 0) {
+            return removed;
+        }
+        List<File> candidates = new ArrayList<>();
+        try {
+            for (File dependency : dependencies) {
+                if (!toolRuntime.startsWith(dependency.getCanonicalFile().toPath())) {
+                    candidates.add(dependency);
+                }
+            }
+        } catch (IOException e) {
+            // A dependency which cannot be resolved may hold the runtime of the update tool
+            return removed;
+        }
+        if (candidates.isEmpty()) {
+            return removed;
+        }
+        DistributionIndex index;
+        try {
+            index = distributionIndex.get();
+        } catch (CommandException e) {
+            // Without the index, the unused dependencies are not known
+            return removed;
+        }
+        Set<String> referenced = new HashSet<>();
+        for (String version : getLocalDistributionVersions(distributionsDirectory)) {
+            String dependency = index.getDependency(version);
+            if (dependency == null || dependency.isEmpty()) {
+                return removed;
+            }
+            referenced.add(dependency);
+        }
+        for (File dependency : candidates) {
+            if (!referenced.contains(dependency.getName())) {
+                try {
+                    OSUtils.deleteFiles(dependency.toPath());
+                } catch (IOException e) {
+                    throw ErrorUtil.createCommandException("error occurred while removing the dependency '" +
+                            dependency.getName() + "'");
+                }
+                removed.add(dependency.getName());
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Provides the versions of the local distributions, skipping the directories which are not named after a
+     * version.
+     *
+     * @param distributionsDirectory directory of the local distributions
+     * @return distribution versions
+     */
+    private static List<String> getLocalDistributionVersions(File distributionsDirectory) {
+        File[] listOfFiles = distributionsDirectory.listFiles();
+        List<String> versions = new ArrayList<>();
+        if (listOfFiles != null) {
+            for (String version : getLocalVersions(listOfFiles)) {
+                if (!version.isEmpty()) {
+                    versions.add(version);
+                }
+            }
+        }
+        return versions;
+    }
+
+    private String getLatestVersion(DistributionIndex distributionIndex) {
+        List<Channel> channels = distributionIndex.getChannels();
+        // Assume channels are sorted descending
+        Channel latestChannel = channels.get(0);
+        Distribution latestDistribution = Collections.max(latestChannel.getDistributions(),
+                Comparator.comparing(Distribution::getBallerinaVersion));
+        return ToolUtil.getLatest(latestDistribution.getVersion(), "patch", printStream);
+    }
+
+    /**
+     * Provides the versions of the distributions in the distributions directory ordered by the directory name.
+     *
+     * @param listOfFiles files in the distributions directory
+     * @return distribution versions
+     */
+    private static List<String> getLocalVersions(File[] listOfFiles) {
+        Arrays.sort(listOfFiles);
+        List<String> versions = new ArrayList<>(listOfFiles.length);
+        for (File file : listOfFiles) {
+            if (file.isDirectory()) {
+                String[] parts = file.getName().split("-");
+                versions.add(parts.length == 2 ? parts[1] : "");
+            }
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+import com.moandjiezana.toml.Toml;
+import org.ballerinalang.command.util.ErrorUtil;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Desired state of the local distributions, read from a TOML manifest such as the following.
+ *
+ * <pre>
+ * distributions = ["2201.5.0", "2201.4.2"]
+ * active = "2201.5.0"
+ * retention = "remove"
+ * </pre>
+ *
+ * The active distribution defaults to the first distribution. With the {@code remove} retention, which is the
+ * default, the local distributions which are not listed are removed, while the {@code keep} retention keeps them.
+ */
+public class DistributionManifest {
+    private static final String DISTRIBUTIONS = "distributions";
+    private static final String ACTIVE = "active";
+    private static final String RETENTION = "retention";
+
+    /**
+     * What is done with the local distributions which are not listed in the manifest.
+     */
+    public enum Retention {
+        /**
+         * The distributions are removed.
+         */
+        REMOVE,
+        /**
+         * The distributions are kept.
+         */
+        KEEP
+    }
+
+    private final List<String> distributions;
+    private final String active;
+    private final Retention retention;
+
+    public DistributionManifest(List<String> distributions, String active, Retention retention) {
+        if (distributions.isEmpty()) {
+            throw ErrorUtil.createCommandException("at least one distribution must be listed in the manifest");
+        }
+        this.distributions = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(distributions)));
+        this.active = active == null ? distributions.get(0) : active;
+        this.retention = retention;
+        if (!this.distributions.contains(this.active)) {
+            throw ErrorUtil.createCommandException("the active distribution '" + this.active +
+                    "' must be listed in the manifest");
+        }
+    }
+
+    /**
+     * Reads a manifest file.
+     *
+     * @param manifestFile manifest file
+     * @return manifest
+     */
+    public static DistributionManifest read(File manifestFile) {
+        if (!manifestFile.isFile()) {
+            throw ErrorUtil.createCommandException("manifest '" + manifestFile + "' not found");
+        }
+        Map<String, Object> values;
+        try {
+            values = new Toml().read(manifestFile).toMap();
+        } catch (RuntimeException e) {
+            throw ErrorUtil.createCommandException("invalid manifest '" + manifestFile + "': " + e.getMessage());
+        }
+        Object distributionValues = values.get(DISTRIBUTIONS);
+        if (!(distributionValues instanceof List)) {
+            throw ErrorUtil.createCommandException("invalid manifest '" + manifestFile + "': '" + DISTRIBUTIONS +
+                    "' must be an array of distribution versions");
+        }
+        List<String> distributions = new ArrayList<>();
+        for (Object value : (List<?>) distributionValues) {
+            distributions.add(value.toString());
+        }
+        Object active = values.get(ACTIVE);
+        Object retention = values.get(RETENTION);
+        return new DistributionManifest(distributions, active == null ? null : active.toString(),
+                getRetention(retention == null ? null : retention.toString()));
+    }
+
+    private static Retention getRetention(String value) {
+        if (value == null) {
+            return Retention.REMOVE;
+        }
+        for (Retention retention : Retention.values()) {
+            if (retention.name().equalsIgnoreCase(value)) {
+                return retention;
+            }
+        }
+        throw ErrorUtil.createCommandException("invalid retention '" + value + "' in the manifest. Use 'remove' " +
+                "or 'keep'");
+    }
+
+    /**
+     * Provides the distributions which should be available locally, without duplicates.
+     *
+     * @return distribution versions, which may include {@code latest}
+     */
+    public List<String> getDistributions() {
+        return distributions;
+    }
+
+    public String getActive() {
+        return active;
+    }
+
+    public Retention getRetention() {
+        return retention;
+    }
+}
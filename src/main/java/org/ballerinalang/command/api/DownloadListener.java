@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+/**
+ * Receives the progress of a download in addition to the progress bar. The methods are called from the threads
+ * running the download, hence they should return quickly.
+ */
+public interface DownloadListener {
+
+    /**
+     * Called when the download starts.
+     *
+     * @param task description of the download, such as the distribution and dependency being downloaded
+     */
+    void started(String task);
+
+    /**
+     * Called when bytes are downloaded or the total length of the download is known.
+     *
+     * @param bytes      downloaded bytes
+     * @param totalBytes total bytes known so far, which grows as the lengths of concurrent downloads are known
+     */
+    void progressed(long bytes, long totalBytes);
+
+    /**
+     * Called when the download has completed or failed.
+     */
+    void finished();
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+/**
+ * Outcome of pulling a distribution.
+ */
+public class PullResult {
+
+    /**
+     * Status of the pulled distribution.
+     */
+    public enum Status {
+        /**
+         * The distribution was already the active distribution, hence nothing was done.
+         */
+        ALREADY_ACTIVE,
+        /**
+         * The distribution was available locally and was set as the active distribution.
+         */
+        ACTIVATED,
+        /**
+         * The distribution was downloaded and set as the active distribution.
+         */
+        DOWNLOADED
+    }
+
+    private final String version;
+    private final Status status;
+
+    PullResult(String version, Status status) {
+        this.version = version;
+        this.status = status;
+    }
+
+    /**
+     * Provides the version of the pulled distribution, which is the resolved version when the latest distribution
+     * is pulled.
+     *
+     * @return distribution version
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Distributions and dependencies deleted by a removal.
+ */
+public class RemoveResult {
+    private final List<String> distributions;
+    private final List<String> dependencies;
+
+    RemoveResult(List<String> distributions, List<String> dependencies) {
+        this.distributions = Collections.unmodifiableList(distributions);
+        this.dependencies = Collections.unmodifiableList(dependencies);
+    }
+
+    /**
+     * Provides the names of the deleted distribution directories.
+     *
+     * @return deleted distributions, which is empty if there was nothing to remove
+     */
+    public List<String> getDistributions() {
+        return distributions;
+    }
+
+    public List<String> getDependencies() {
+        return dependencies;
+    }
+}
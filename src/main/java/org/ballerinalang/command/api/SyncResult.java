@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Changes made to the local distributions to match a manifest.
+ */
+public class SyncResult {
+    private final List<String> downloaded;
+    private final String activated;
+    private final List<String> removedDistributions;
+    private final List<String> removedDependencies;
+
+    SyncResult(List<String> downloaded, String activated, List<String> removedDistributions,
+               List<String> removedDependencies) {
+        this.downloaded = Collections.unmodifiableList(downloaded);
+        this.activated = activated;
+        this.removedDistributions = Collections.unmodifiableList(removedDistributions);
+        this.removedDependencies = Collections.unmodifiableList(removedDependencies);
+    }
+
+    public List<String> getDownloaded() {
+        return downloaded;
+    }
+
+    /**
+     * Provides the distribution which was set as the active distribution.
+     *
+     * @return distribution version or null if the active distribution was not changed
+     */
+    public String getActivated() {
+        return activated;
+    }
+
+    /**
+     * Provides the names of the deleted distribution directories.
+     *
+     * @return deleted distributions
+     */
+    public List<String> getRemovedDistributions() {
+        return removedDistributions;
+    }
+
+    public List<String> getRemovedDependencies() {
+        return removedDependencies;
+    }
+
+    /**
+     * Checks whether the local distributions already matched the manifest.
+     *
+     * @return true if nothing was changed
+     */
+    public boolean isUnchanged() {
+        return downloaded.isEmpty() && activated == null && removedDistributions.isEmpty() &&
+                removedDependencies.isEmpty();
+    }
+}
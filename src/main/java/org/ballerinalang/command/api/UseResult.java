@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+/**
+ * Outcome of setting a distribution as the active distribution.
+ */
+public enum UseResult {
+    /**
+     * The distribution was already the active distribution.
+     */
+    ALREADY_ACTIVE,
+    /**
+     * The local distribution was set as the active distribution.
+     */
+    ACTIVATED,
+    /**
+     * The distribution is published but not available locally, hence it has to be pulled.
+     */
+    NOT_INSTALLED,
+    /**
+     * No such distribution is published.
+     */
+    NOT_FOUND
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.cmd;
+
+import org.ballerinalang.command.BallerinaCliCommands;
+import org.ballerinalang.command.api.DistributionManager;
+import org.ballerinalang.command.exceptions.CommandException;
+import org.ballerinalang.command.util.ErrorUtil;
+import org.ballerinalang.command.util.Tool;
+import org.ballerinalang.command.util.ToolContext;
+import org.ballerinalang.command.util.ToolUtil;
+import picocli.CommandLine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This class represents the "Batch" command, which executes a sequence of dist commands in one process.
+ *
+ * Each line of the input holds a list, pull, use or remove command with its arguments, such as
+ * {@code pull 2201.5.0}. Empty lines and lines starting with {@code #} are skipped. The commands share the
+ * distribution index and the connections to the remote server, and the update tool is checked once for all the
+ * pulls. The distributions to pull are downloaded concurrently before the commands are executed in order, hence
+ * the pulls only set the downloaded distributions as the active distribution. The batch stops at the first command
+ * which fails.
+ */
+@CommandLine.Command(name = "batch", description = "Execute a batch of dist commands")
+public class BatchCommand extends Command implements BCommand {
+    private static final List<String> BATCH_COMMANDS = Arrays.asList(BallerinaCliCommands.LIST,
+            BallerinaCliCommands.PULL, BallerinaCliCommands.USE, BallerinaCliCommands.REMOVE);
+    private static final String STDIN = "-";
+    private static final String COMMENT_PREFIX = "#";
+
+    @CommandLine.Parameters(description = "Command name")
+    private List<String> batchCommands;
+
+    @CommandLine.Option(names = {"--help", "-h", "?"}, hidden = true)
+    private boolean helpFlag;
+
+    @CommandLine.Option(names = {"--test", "-t"}, hidden = true)
+    private boolean testFlag;
+
+    private CommandLine parentCmdParser;
+
+    private final InputStream inputStream;
+
+    public BatchCommand(PrintStream printStream) {
+        this(printStream, System.in);
+    }
+
+    public BatchCommand(PrintStream printStream, InputStream inputStream) {
+        super(printStream);
+        this.inputStream = inputStream;
+    }
+
+    public void execute() {
+        if (helpFlag) {
+            printUsageInfo(ToolUtil.CLI_HELP_FILE_PREFIX + getName());
+            return;
+        }
+
+        if (batchCommands != null && batchCommands.size() > 1) {
+            throw ErrorUtil.createDistSubCommandUsageExceptionWithHelp("too many arguments", getName());
+        }
+
+        String source = batchCommands == null ? STDIN : batchCommands.get(0);
+        // All the lines are parsed before any command is executed, so that a typo does not leave a half-done batch
+        List<BatchEntry> entries = parse(readLines(source));
+        List<String> pulls = new ArrayList<>();
+        for (BatchEntry entry : entries) {
+            if (entry.command instanceof PullCommand) {
+                List<String> distributions = new ArrayList<>();
+                for (String arg : entry.args) {
+                    if (!arg.startsWith("-") && !arg.equals("?")) {
+                        distributions.add(arg);
+                    }
+                }
+                // Invalid pulls are reported when they are executed
+                if (distributions.size() == 1) {
+                    pulls.add(distributions.get(0));
+                }
+            }
+        }
+
+        PrintStream printStream = getPrintStream();
+        if (!pulls.isEmpty() && !testFlag) {
+            Tool toolDetails = ToolUtil.updateTool(printStream);
+            if (!"true".equals(toolDetails.getCompatibility())) {
+                return;
+            }
+        }
+        prefetch(pulls);
+
+        for (BatchEntry entry : entries) {
+            printStream.println("$ bal dist " + entry.line);
+            try {
+                entry.command.execute();
+            } catch (CommandException e) {
+                e.addMessage("Stopped the batch at line " + entry.lineNumber + ": '" + entry.line + "'");
+                throw e;
+            }
+            printStream.println();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return BallerinaCliCommands.BATCH;
+    }
+
+    @Override
+    public void printLongDesc(StringBuilder out) {
+
+    }
+
+    @Override
+    public void printUsage(StringBuilder out) {
+        out.append("  bal dist batch\n");
+    }
+
+    @Override
+    public void setParentCmdParser(CommandLine parentCmdParser) {
+        this.parentCmdParser = parentCmdParser;
+    }
+
+    private List<String> readLines(String source) {
+        try {
+            if (source.equals(STDIN)) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream,
+                        StandardCharsets.UTF_8));
+                List<String> lines = new ArrayList<>();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+                return lines;
+            }
+            return Files.readAllLines(ToolContext.getInstance().resolvePath(source), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw ErrorUtil.createCommandException("failed to read the batch file '" + source + "'");
+        }
+    }
+
+    private List<BatchEntry> parse(List<String> lines) {
+        List<BatchEntry> entries = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            String[] tokens = line.split("\\s+");
+            String commandName = tokens[0];
+            String[] args = Arrays.copyOfRange(tokens, 1, tokens.length);
+            if (!BATCH_COMMANDS.contains(commandName)) {
+                throw ErrorUtil.createDistSubCommandUsageExceptionWithHelp("unknown command '" + commandName +
+                        "' at line " + (i + 1), getName());
+            }
+            BCommand command = createCommand(commandName);
+            try {
+                new CommandLine(command).parse(args);
+            } catch (CommandLine.ParameterException e) {
+                throw ErrorUtil.createDistSubCommandUsageExceptionWithHelp(e.getMessage() + " at line " + (i + 1),
+                        getName());
+            }
+            if (command instanceof PullCommand) {
+                ((PullCommand) command).setBatchMode(testFlag);
+            }
+            entries.add(new BatchEntry(i + 1, line, command, args));
+        }
+        return entries;
+    }
+
+    private BCommand createCommand(String commandName) {
+        PrintStream printStream = getPrintStream();
+        switch (commandName) {
+            case BallerinaCliCommands.LIST:
+                return new ListCommand(printStream);
+            case BallerinaCliCommands.PULL:
+                return new PullCommand(printStream);
+            case BallerinaCliCommands.USE:
+                return new UseCommand(printStream);
+            default:
+                return new RemoveCommand(printStream);
+        }
+    }
+
+    /**
+     * Downloads the distributions to pull, which are not available locally, at the same time. A failed download is
+     * left to the pull command, which reports it at its line.
+     *
+     * @param pulls distribution versions given to the pull commands
+     */
+    private void prefetch(List<String> pulls) {
+        PrintStream printStream = getPrintStream();
+        DistributionManager distributionManager = new DistributionManager(printStream);
+        distributionManager.setTestMode(testFlag);
+        Set<String> versions = new LinkedHashSet<>();
+        for (String pull : pulls) {
+            try {
+                String version = distributionManager.resolve(pull);
+                if (!ToolUtil.checkDistributionAvailable(version)) {
+                    versions.add(version);
+                }
+            } catch (CommandException e) {
+                // Reported by the pull command
+            }
+        }
+        // A single download is left to the pull command, which shows its progress
+        if (versions.size() < 2) {
+            return;
+        }
+
+        printStream.println("Fetching " + String.join(", ", versions) + " from the remote server...");
+        // A failed download is reported by the pull command
+        distributionManager.fetchAll(versions);
+        printStream.println();
+    }
+
+    /**
+     * Command of a line of the batch.
+     */
+    private static class BatchEntry {
+        private final int lineNumber;
+        private final String line;
+        private final BCommand command;
+        private final String[] args;
+
+        BatchEntry(int lineNumber, String line, BCommand command, String[] args) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+            this.command = command;
+            this.args = args;
+        }
+    }
+}
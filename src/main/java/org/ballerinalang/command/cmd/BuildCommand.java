@@ -39,10 +39,18 @@ public class BuildCommand extends Command implements BCommand {
     @CommandLine.Option(names = {"--help", "-h", "?"}, hidden = true)
     private boolean helpFlag;
 
+    @CommandLine.Option(names = {"--background"}, hidden = true)
+    private boolean backgroundFlag;
+
     public void execute() {
         if (helpFlag) {
             return;
         }
+        if (backgroundFlag) {
+            // Started detached by the launcher, which prints the notice left by the check on the next build
+            ToolUtil.checkForUpdateInBackground(getPrintStream());
+            return;
+        }
         ToolUtil.checkForUpdate(getPrintStream());
     }
 
@@ -20,6 +20,7 @@ import org.ballerinalang.command.BallerinaCliCommands;
 import org.ballerinalang.command.util.ErrorUtil;
 import picocli.CommandLine;
 
+import java.io.PrintStream;
 import java.util.List;
 
 /**
@@ -33,6 +34,14 @@ public class HelpCommand extends Command implements BCommand {
 
     private CommandLine parentCmdParser;
 
+    public HelpCommand() {
+        super();
+    }
+
+    public HelpCommand(PrintStream printStream) {
+        super(printStream);
+    }
+
     public void execute() {
         if (helpCommands == null) {
             printUsageInfo(BallerinaCliCommands.HELP);
@@ -17,30 +17,22 @@
 package org.ballerinalang.command.cmd;
 
 import org.ballerinalang.command.BallerinaCliCommands;
+import org.ballerinalang.command.api.DistributionList;
+import org.ballerinalang.command.api.DistributionManager;
 import org.ballerinalang.command.exceptions.CommandException;
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
 import picocli.CommandLine;
 
 import org.ballerinalang.command.util.Channel;
 import org.ballerinalang.command.util.Distribution;
 import org.ballerinalang.command.util.ErrorUtil;
-import org.ballerinalang.command.util.OSUtils;
 import org.ballerinalang.command.util.ToolUtil;
 
-import java.io.File;
-import java.io.FileReader;
 import java.io.PrintStream;
-import java.io.IOException;
 
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class represents the "Update" command and it holds arguments and flags specified by the user.
@@ -107,105 +99,53 @@ public class ListCommand extends Command implements BCommand {
      * @param outStream stream outputs need to be printed
      */
     private static void listDistributions(PrintStream outStream, boolean allFlag, boolean prFlag) {
-        String currentBallerinaVersion = ToolUtil.getCurrentBallerinaVersion();
-        File folder = new File(ToolUtil.getDistributionsPath());
-        File[] listOfFiles = folder.listFiles();
+        DistributionList distributionList = new DistributionManager(outStream).list();
+        String currentBallerinaVersion = distributionList.getActiveVersion();
+        List<String> localVersions = distributionList.getLocalVersions();
+        // The distributions directory is scanned once and joined with the remote distributions by version
+        Set<String> localVersionIndex = localVersions == null ? Collections.emptySet() : new HashSet<>(localVersions);
         int maxListingDistributions = 10;
-        try {
-            JSONObject distList = new JSONObject();
-            JSONArray channelsArr = new JSONArray();
-            List<Channel> channels = ToolUtil.getDistributions(outStream);
-            if (listOfFiles != null) {
+        CommandException remoteError = distributionList.getRemoteError();
+        if (remoteError == null) {
+            List<Channel> channels = distributionList.getChannels();
+            if (localVersions != null) {
                 outStream.println("Distributions available locally: \n");
-            }
-
-            for (Channel channel : channels) {
-                JSONObject channelJson = new JSONObject();
-                JSONArray releases = new JSONArray();
-                channelJson.put("name", channel.getName());
-                List<Distribution> channelDistListLocal = channel.getDistributions();
-                if (!channel.getName().contains(ToolUtil.PRE_RELEASE)) {
-                    channelDistListLocal = getSortedDistList(channelDistListLocal);
-                }
-                if (listOfFiles != null) {
-                    for (Distribution distribution : channelDistListLocal) {
-                            Arrays.sort(listOfFiles);
-                            for (File file : listOfFiles) {
-                                if (file.isDirectory()) {
-                                    String version = "";
-                                    String[] parts =  file.getName().split("-");
-                                    if (parts.length == 2) {
-                                        version = parts[1];
-                                    }
-                                    if (version.equals(distribution.getVersion())) {
-                                        String versionName = distribution.getName();
-                                        String versionId = distribution.getVersion();
-                                        JSONObject versionInfo = new JSONObject();
-                                        versionInfo.put("name", versionName);
-                                        versionInfo.put("version", versionId);
-                                        outStream.println(markVersion(currentBallerinaVersion, versionId));
-                                        releases.add(versionInfo);
-                                    }
-                                }
-                            }
+                for (Channel channel : channels) {
+                    for (Distribution distribution : channel.getDistributions()) {
+                        if (localVersionIndex.contains(distribution.getVersion())) {
+                            outStream.println(markVersion(currentBallerinaVersion, distribution.getVersion()));
                         }
                     }
-                channelJson.put("releases", releases);
-                channelsArr.add(channelJson);
+                }
             }
-            distList.put("channels", channelsArr);
-            writeLocalDistsIntoJson(distList);
             outStream.println("\nDistributions available remotely:");
             for (Channel channel : channels) {
                 if (channel.getName().contains(ToolUtil.PRE_RELEASE) && !prFlag) {
                     continue;
                 }
-                else {
-                    outStream.println("\n" + channel.getName() + "\n");
-                    List<Distribution> channelDistList = channel.getDistributions();
-                    if (!channel.getName().contains(ToolUtil.PRE_RELEASE)) {
-                        channelDistList = getSortedDistList(channelDistList);
-                    }
-                    if (!allFlag){
-                        if (channelDistList.size() > maxListingDistributions) {
-                            List<Distribution> recentDistributions = channelDistList.subList(0,
-                                    maxListingDistributions);
-                            for (Distribution distribution : recentDistributions) {
-                                outStream.println(markVersion(currentBallerinaVersion, distribution.getVersion(),
-                                        channelDistList.get(0).getVersion()));
-                            }
-                        }
-                        else{
-                            for (Distribution distribution : channelDistList) {
-                                outStream.println(markVersion(currentBallerinaVersion, distribution.getVersion(),
-                                        channelDistList.get(0).getVersion()));
-                            }
-                        }
-                    }
-                    else{
-                        for (Distribution distribution : channelDistList) {
-                            outStream.println(markVersion(currentBallerinaVersion, distribution.getVersion(),
-                                    channelDistList.get(0).getVersion()));
-                        }
-                    }
+                outStream.println("\n" + channel.getName() + "\n");
+                List<Distribution> channelDistList = channel.getDistributions();
+                if (!allFlag && channelDistList.size() > maxListingDistributions) {
+                    channelDistList = channelDistList.subList(0, maxListingDistributions);
+                }
+                for (Distribution distribution : channelDistList) {
+                    outStream.println(markVersion(currentBallerinaVersion, distribution.getVersion(),
+                            channel.getDistributions().get(0).getVersion()));
                 }
             }
-        } catch (CommandException e) {
+        } else {
             outStream.println("Distributions available locally: \n");
-            if(listOfFiles != null && !isUpdated(listOfFiles)) {
-                listLocalDists(listOfFiles, outStream, currentBallerinaVersion);
-            } else {
-                readLocalDistsFromJson(outStream, currentBallerinaVersion);
+            if (localVersions != null) {
+                listLocalDists(localVersions, outStream, currentBallerinaVersion);
             }
             outStream.println("\nDistributions available remotely: \n");
-            ErrorUtil.printLauncherException(e, outStream);
-        } finally {
-            outStream.println();
-            if(!allFlag) {
-                outStream.println("Use 'bal dist list -a' to list all the distributions under each channel. ");
-            }
-            outStream.println("Use 'bal help dist' for more information on specific commands.");
+            ErrorUtil.printLauncherException(remoteError, outStream);
+        }
+        outStream.println();
+        if(!allFlag) {
+            outStream.println("Use 'bal dist list -a' to list all the distributions under each channel. ");
         }
+        outStream.println("Use 'bal help dist' for more information on specific commands.");
     }
 
     /**
@@ -236,118 +176,17 @@ public class ListCommand extends Command implements BCommand {
         }
     }
 
-    /**
-     * Writes the locally available distributions into a json file to fetch local distributions when offline.
-     *
-     * @param distList Installed ballerina versions
-     */
-    private static void writeLocalDistsIntoJson(JSONObject distList) {
-        try {
-            String distListFilePath = OSUtils.getBallerinaDistListFilePath();
-            File file = new File(distListFilePath);
-
-            if (!file.exists()) {
-                file.getParentFile().mkdirs();
-                file.createNewFile();
-                ToolUtil.addWritePermissionToFile(new File(OSUtils.getBallerinaHomePath()));
-                ToolUtil.addWritePermissionToFile(file);
-            }
-
-            if (!Files.isWritable(Paths.get(distListFilePath))) {
-                throw ErrorUtil.createCommandException("permission denied: you do not have write access to '" +
-                        distListFilePath + "'");
-            }
-            Files.write(Paths.get(distListFilePath), distList.toJSONString().getBytes());
-        } catch (IOException e) {
-            throw ErrorUtil.createCommandException("failed to write in the file: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Reads the locally available distributions from previously saved json file.
-     *
-     * @param outStream stream outputs need to be printed
-     * @param currentBallerinaVersion Current active version
-     */
-    private static void readLocalDistsFromJson(PrintStream outStream, String currentBallerinaVersion) {
-        try {
-            FileReader reader = new FileReader(OSUtils.getBallerinaDistListFilePath());
-            JSONParser jsonParser = new JSONParser();
-            JSONObject jsonObject = (JSONObject) jsonParser.parse(reader);
-            JSONArray channels = (JSONArray) jsonObject.get("channels");
-            for (Object channel: channels) {
-                JSONObject channelObj = (JSONObject) channel;
-                JSONArray releases = (JSONArray) channelObj.get("releases");
-                for (Object release : releases) {
-                    JSONObject versionInfo = (JSONObject) release;
-                    outStream.println(markVersion(currentBallerinaVersion, versionInfo.get("version").toString()));
-                }
-            }
-        } catch (IOException | ParseException e) {
-            throw ErrorUtil.createCommandException("failed to read the file: " + e.getMessage());
-        }
-    }
-
     /**
      * List the locally available distributions from the distributions directory.
      *
-     * @param listOfFiles locally available distributions
+     * @param localVersions locally available distribution versions
      * @param outStream stream outputs need to be printed
      * @param currentBallerinaVersion Current active version
      */
-    private static void listLocalDists(File[] listOfFiles, PrintStream outStream, String currentBallerinaVersion) {
-        for (File file : listOfFiles) {
-            if (file.isDirectory()) {
-                String version = "";
-                String[] parts = file.getName().split("-");
-                if (parts.length == 2) {
-                    version = parts[1];
-                }
-                outStream.println(markVersion(currentBallerinaVersion, version));
-            }
-        }
-    }
-
-    /**
-     * Sorts the distributions under a channel according to their semver version.
-     *
-     * @param channelDistList The list of distributions under a channel
-     */
-    private static List<Distribution> getSortedDistList(List<Distribution> channelDistList) {
-        Comparator<Distribution> semverComparator = Comparator
-                .comparingInt((Distribution distribution) -> Integer.parseInt(distribution.getVersion().split("\\.")[0]))
-                .thenComparingInt((Distribution distribution) -> Integer.parseInt(distribution.getVersion().split("\\.")[1]))
-                .thenComparingInt((Distribution distribution) -> Integer.parseInt(distribution.getVersion().split("\\.")[2]));
-        channelDistList.sort(semverComparator);
-        Collections.reverse(channelDistList);
-        return channelDistList;
-    }
-
-    private static boolean isUpdated(File[] listOfFiles) {
-        try {
-            if (!new File(OSUtils.getBallerinaDistListFilePath()).exists()) {
-                return false;
-            }
-
-            FileReader reader = new FileReader(OSUtils.getBallerinaDistListFilePath());
-            JSONParser jsonParser = new JSONParser();
-            JSONObject jsonObject = (JSONObject) jsonParser.parse(reader);
-            String jsonString = jsonObject.toJSONString();
-            for (File file : listOfFiles) {
-                if (file.isDirectory()) {
-                    String version = "";
-                    String[] parts = file.getName().split("-");
-                    if (parts.length == 2) {
-                        version = parts[1];
-                    }
-                    if (!jsonString.contains(version)) {
-                        return false;
-                    }
-                }
-            }
-        } catch (ParseException | IOException e) {
-            throw ErrorUtil.createCommandException("failed to parse the content of the file: " + e.getMessage());
+    private static void listLocalDists(List<String> localVersions, PrintStream outStream,
+                                       String currentBallerinaVersion) {
+        for (String version : localVersions) {
+            outStream.println(markVersion(currentBallerinaVersion, version));
         }
-        return true;
     }
 }
@@ -17,17 +17,20 @@
 package org.ballerinalang.command.cmd;
 
 import org.ballerinalang.command.BallerinaCliCommands;
-import org.ballerinalang.command.util.Channel;
-import org.ballerinalang.command.util.Distribution;
+import org.ballerinalang.command.api.DistributionManager;
+import org.ballerinalang.command.api.PullResult;
+import org.ballerinalang.command.exceptions.CommandException;
 import org.ballerinalang.command.util.ErrorUtil;
 import org.ballerinalang.command.util.Tool;
 import org.ballerinalang.command.util.ToolUtil;
 import picocli.CommandLine;
 
 import java.io.PrintStream;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This class represents the "Pull" command and it holds arguments and flags specified by the user.
@@ -44,12 +47,30 @@ public class PullCommand extends Command implements BCommand {
     @CommandLine.Option(names = {"--test", "-t"}, hidden = true)
     private boolean testFlag;
 
+    @CommandLine.Option(names = {"--no-use"})
+    private boolean noUseFlag;
+
+    @CommandLine.Option(names = {"--concurrency"})
+    private Integer concurrency;
+
     private CommandLine parentCmdParser;
 
+    // The update tool is checked once for all the pulls of a batch
+    private boolean toolUpdateChecked;
+
     public PullCommand(PrintStream printStream) {
         super(printStream);
     }
 
+    /**
+     * Marks the pull as a command of a batch, which has checked the update tool.
+     *
+     * @param testMode whether the batch downloads are tests
+     */
+    void setBatchMode(boolean testMode) {
+        this.toolUpdateChecked = true;
+        this.testFlag = this.testFlag || testMode;
+    }
 
     public void execute() {
         if (helpFlag) {
@@ -61,13 +82,13 @@ public class PullCommand extends Command implements BCommand {
             throw ErrorUtil.createDistributionRequiredException("pull");
         }
 
-        if (pullCommands.size() > 1) {
-            throw ErrorUtil.createDistSubCommandUsageExceptionWithHelp("too many arguments", getName());
+        if (concurrency != null && concurrency < 1) {
+            throw ErrorUtil.createDistSubCommandUsageExceptionWithHelp("the concurrency must be at least 1",
+                    getName());
         }
         PrintStream printStream = getPrintStream();
-        String distribution = pullCommands.get(0);
 
-        if (!testFlag) {
+        if (!testFlag && !toolUpdateChecked) {
             // Check and update the tool if any latest version available
             Tool toolDetails = ToolUtil.updateTool(printStream);
             if (!toolDetails.getCompatibility().equals("true")) {
@@ -75,44 +96,58 @@ public class PullCommand extends Command implements BCommand {
             }
         }
 
-        // To handle bal dist pull latest
-        if (distribution.equals(ToolUtil.LATEST_PULL_INPUT)) {
+        if (pullCommands.contains(ToolUtil.LATEST_PULL_INPUT)) {
             printStream.println("Fetching the latest distribution from the remote server...");
-            List<Channel> channels = ToolUtil.getDistributions(printStream);
-            // Assume channels are sorted descending
-            Channel latestChanel = channels.get(0);
-            List<Distribution> distributions = latestChanel.getDistributions();
-            distributions.sort(Comparator.comparing(Distribution::getVersion));
-            Collections.reverse(distributions);
-            distribution = ToolUtil.getLatest(distributions.get(0).getVersion(), "patch", printStream);
+        }
+        DistributionManager distributionManager = new DistributionManager(printStream);
+        distributionManager.setTestMode(testFlag);
+        if (concurrency != null) {
+            distributionManager.setMaxConcurrentDownloads(concurrency);
+        }
+        if (pullCommands.size() == 1 && !noUseFlag) {
+            PullResult result = distributionManager.pull(pullCommands.get(0), null);
+            printActivation(result.getVersion(), result.getStatus() == PullResult.Status.ALREADY_ACTIVE);
+            return;
         }
 
-        // To check whether the distribution is a valid one
-        if (!distribution.equals(ToolUtil.LATEST_PULL_INPUT)) {
-            boolean validDist = false;
-            List<Channel> channels = ToolUtil.getDistributions(printStream);
-            for (Channel channel : channels) {
-                List<Distribution> distributions = channel.getDistributions();
-                for (Distribution dist : distributions) {
-                    if (dist.getVersion().equals(distribution)) {
-                        validDist = true;
-                        break;
-                    }
-                }
+        // All the distributions are resolved before any of them is downloaded
+        Set<String> distributions = new LinkedHashSet<>();
+        for (String distribution : pullCommands) {
+            distributions.add(distributionManager.resolve(distribution));
+        }
+        for (String distribution : distributions) {
+            if (ToolUtil.checkDistributionAvailable(distribution)) {
+                printStream.println("'" + distribution + "' is already available locally");
             }
-            if (!validDist) {
-                throw ErrorUtil.createDistributionNotFoundException(distribution);
+        }
+        Map<String, CommandException> errors = distributionManager.fetchAll(distributions);
+        if (!errors.isEmpty()) {
+            CommandException exception = ErrorUtil.createCommandException("failed to pull " +
+                    String.join(", ", errors.keySet()));
+            for (CommandException error : errors.values()) {
+                error.getMessages().forEach(exception::addMessage);
             }
+            throw exception;
         }
-
-        if (distribution.equals(ToolUtil.getCurrentBallerinaVersion())) {
-            printStream.println("'" + distribution + "' is already the active distribution");
+        if (noUseFlag) {
             return;
         }
-        ToolUtil.handleInstallDirPermission();
-        ToolUtil.downloadDistribution(printStream, distribution, ToolUtil.getType(distribution), distribution, testFlag);
-        ToolUtil.useBallerinaVersion(printStream, distribution);
-        printStream.println("'" + distribution + "' successfully set as the active distribution");
+        // The last distribution is set as the active distribution, as if the distributions were pulled one by one
+        List<String> pulled = new ArrayList<>(distributions);
+        String activeDistribution = pulled.get(pulled.size() - 1);
+        boolean alreadyActive = activeDistribution.equals(ToolUtil.getCurrentBallerinaVersion());
+        if (!alreadyActive) {
+            ToolUtil.useBallerinaVersion(printStream, activeDistribution);
+        }
+        printActivation(activeDistribution, alreadyActive);
+    }
+
+    private void printActivation(String distribution, boolean alreadyActive) {
+        if (alreadyActive) {
+            getPrintStream().println("'" + distribution + "' is already the active distribution");
+        } else {
+            getPrintStream().println("'" + distribution + "' successfully set as the active distribution");
+        }
     }
 
     @Override
@@ -17,13 +17,12 @@
 package org.ballerinalang.command.cmd;
 
 import org.ballerinalang.command.BallerinaCliCommands;
+import org.ballerinalang.command.api.DistributionManager;
+import org.ballerinalang.command.api.RemoveResult;
 import org.ballerinalang.command.util.ErrorUtil;
-import org.ballerinalang.command.util.OSUtils;
 import org.ballerinalang.command.util.ToolUtil;
 import picocli.CommandLine;
 
-import java.io.File;
-import java.io.IOException;
 import java.io.PrintStream;
 import java.util.List;
 
@@ -56,7 +55,6 @@ public class RemoveCommand extends Command implements BCommand {
 
         if (allFlag) {
             if (removeCommands == null) {
-                ToolUtil.handleInstallDirPermission();
                 removeAll();
                 return;
             }
@@ -72,8 +70,9 @@ public class RemoveCommand extends Command implements BCommand {
                     BallerinaCliCommands.REMOVE);
         }
 
-        ToolUtil.handleInstallDirPermission();
-        remove(removeCommands.get(0));
+        String version = removeCommands.get(0);
+        new DistributionManager(getPrintStream()).remove(version);
+        getPrintStream().println("Distribution '" + version + "' successfully removed");
     }
 
     @Override
@@ -96,76 +95,12 @@ public class RemoveCommand extends Command implements BCommand {
         this.parentCmdParser = parentCmdParser;
     }
 
-    private boolean isCurrentVersion(String version) {
-        return version.equals(ToolUtil.getCurrentBallerinaVersion());
-    }
-
-    private void remove(String version) {
-        try {
-            if (isCurrentVersion(version)) {
-                throw ErrorUtil.createCommandException("The active Ballerina distribution cannot be removed");
-            } else {
-                String file = ToolUtil.getType(version) + "-" + version;
-                File directory = new File(ToolUtil.getDistributionsPath() + File.separator + file);
-                if (directory.exists()) {
-                    OSUtils.deleteFiles(directory.toPath());
-                    OSUtils.deleteCaches(version, getPrintStream());
-                    getPrintStream().println("Distribution '" + version + "' successfully removed");
-                    ToolUtil.removeUnusedDependencies(version, getPrintStream());
-                } else {
-                    throw ErrorUtil.createCommandException("distribution '" + version + "' not found");
-                }
-            }
-        } catch (IOException e) {
-            throw ErrorUtil.createCommandException("error occurred while removing '" + version + "'");
-        }
-    }
-
     private void removeAll() {
-        try {
-            File folder = new File(ToolUtil.getDistributionsPath());
-            File[] listOfFiles;
-            listOfFiles = folder.listFiles();
-            // checking for 2 files for zip pack and 3 files for installers
-            if (listOfFiles.length == 2 || (listOfFiles.length == 3 && folder.toPath().resolve("installer-version").
-                    toFile().exists())) {
-                getPrintStream().println("There is nothing to remove. Only active distribution is remaining");
-                return;
-            }
-            for (File file : listOfFiles) {
-                if (file.isDirectory()) {
-                    String version = "";
-                    String fileName = file.getName();
-                    String[] parts = fileName.split("-");
-                    if (parts.length == 2) {
-                        version = parts[1];
-                    }
-                    File directory = new File(ToolUtil.getDistributionsPath() + File.separator + fileName);
-                    if (directory.exists() && (!isCurrentVersion(version) || version.equals(""))) {
-                        OSUtils.deleteFiles(directory.toPath());
-                    }
-                }
-            }
-            getPrintStream().println("All non-active distributions are successfully removed");
-            String activeDistribution = ToolUtil.getCurrentBallerinaVersion();
-            String dependencyForActiveDistribution = ToolUtil.getDependency(getPrintStream(), activeDistribution,
-                    ToolUtil.getType(activeDistribution), activeDistribution);
-            File[] dependencies = new File(ToolUtil.getDependencyPath()).listFiles();
-            if (dependencies != null) {
-                if (dependencies.length > 1) {
-                    getPrintStream().println("Removing unused dependencies");
-                    for (File dependency : dependencies) {
-                        if (dependency.isDirectory() && !dependency.getName().equals(dependencyForActiveDistribution)) {
-                            OSUtils.deleteFiles(dependency.toPath());
-                        }
-                    }
-                }
-            } else {
-                throw ErrorUtil.createCommandException("No dependencies found");
-            }
-
-        } catch (IOException | NullPointerException e) {
-            throw ErrorUtil.createCommandException("error occurred while removing the distributions" + e);
+        RemoveResult result = new DistributionManager(getPrintStream()).removeAll();
+        if (result.getDistributions().isEmpty()) {
+            getPrintStream().println("There is nothing to remove. Only active distribution is remaining");
+            return;
         }
+        getPrintStream().println("All non-active distributions are successfully removed");
     }
 }
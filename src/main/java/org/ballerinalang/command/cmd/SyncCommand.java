@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.cmd;
+
+import org.ballerinalang.command.BallerinaCliCommands;
+import org.ballerinalang.command.api.DistributionManager;
+import org.ballerinalang.command.api.DistributionManifest;
+import org.ballerinalang.command.api.SyncResult;
+import org.ballerinalang.command.util.ErrorUtil;
+import org.ballerinalang.command.util.Tool;
+import org.ballerinalang.command.util.ToolContext;
+import org.ballerinalang.command.util.ToolUtil;
+import picocli.CommandLine;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * This class represents the "Sync" command, which changes the local distributions to match a manifest.
+ */
+@CommandLine.Command(name = "sync", description = "Sync local distributions with a manifest")
+public class SyncCommand extends Command implements BCommand {
+
+    @CommandLine.Parameters(description = "Command name")
+    private List<String> syncCommands;
+
+    @CommandLine.Option(names = {"--help", "-h", "?"}, hidden = true)
+    private boolean helpFlag;
+
+    @CommandLine.Option(names = {"--test", "-t"}, hidden = true)
+    private boolean testFlag;
+
+    private CommandLine parentCmdParser;
+
+    public SyncCommand(PrintStream printStream) {
+        super(printStream);
+    }
+
+    public void execute() {
+        if (helpFlag) {
+            printUsageInfo(ToolUtil.CLI_HELP_FILE_PREFIX + getName());
+            return;
+        }
+
+        if (syncCommands == null || syncCommands.size() == 0) {
+            throw ErrorUtil.createDistSubCommandUsageExceptionWithHelp("a manifest must be specified to sync",
+                    getName());
+        }
+
+        if (syncCommands.size() > 1) {
+            throw ErrorUtil.createDistSubCommandUsageExceptionWithHelp("too many arguments", getName());
+        }
+
+        PrintStream printStream = getPrintStream();
+        String manifestFile = syncCommands.get(0);
+        DistributionManifest manifest = DistributionManifest.read(
+                ToolContext.getInstance().resolvePath(manifestFile).toFile());
+        DistributionManager distributionManager = new DistributionManager(printStream);
+        distributionManager.setTestMode(testFlag);
+        // A sync which downloads nothing does not need the network, hence the tool is only checked before downloads
+        if (!testFlag && !distributionManager.getMissingVersions(manifest).isEmpty()) {
+            Tool toolDetails = ToolUtil.updateTool(printStream);
+            if (!"true".equals(toolDetails.getCompatibility())) {
+                return;
+            }
+        }
+        SyncResult result = distributionManager.sync(manifest);
+        if (result.isUnchanged()) {
+            printStream.println("Local distributions are already in sync with '" + manifestFile + "'");
+            return;
+        }
+        if (result.getActivated() != null) {
+            printStream.println("'" + result.getActivated() + "' successfully set as the active distribution");
+        }
+        for (String distribution : result.getRemovedDistributions()) {
+            printStream.println("Distribution '" + distribution + "' successfully removed");
+        }
+        for (String dependency : result.getRemovedDependencies()) {
+            printStream.println("Unused dependency '" + dependency + "' successfully removed");
+        }
+        printStream.println("Local distributions are in sync with '" + manifestFile + "'");
+    }
+
+    @Override
+    public String getName() {
+        return BallerinaCliCommands.SYNC;
+    }
+
+    @Override
+    public void printLongDesc(StringBuilder out) {
+
+    }
+
+    @Override
+    public void printUsage(StringBuilder out) {
+        out.append("  bal dist sync\n");
+    }
+
+    @Override
+    public void setParentCmdParser(CommandLine parentCmdParser) {
+        this.parentCmdParser = parentCmdParser;
+    }
+}
@@ -17,8 +17,7 @@
 package org.ballerinalang.command.cmd;
 
 import org.ballerinalang.command.BallerinaCliCommands;
-import org.ballerinalang.command.util.Channel;
-import org.ballerinalang.command.util.Distribution;
+import org.ballerinalang.command.api.DistributionManager;
 import org.ballerinalang.command.util.ErrorUtil;
 import org.ballerinalang.command.util.ToolUtil;
 import picocli.CommandLine;
@@ -60,32 +59,22 @@ public class UseCommand extends Command implements BCommand {
 
         PrintStream printStream = getPrintStream();
         String distribution = useCommands.get(0);
-        if (distribution.equals(ToolUtil.getCurrentBallerinaVersion())) {
-            printStream.println("'" + distribution + "' is the current active distribution version");
-            return;
-        }
-        if (ToolUtil.checkDistributionAvailable(distribution)) {
-            ToolUtil.useBallerinaVersion(printStream, distribution);
-            printStream.println("'" + distribution + "' successfully set as the active distribution");
-            return;
-        }
-        printStream.println("Distribution '" + distribution + "' not found");
-
-        List<Channel> channels = ToolUtil.getDistributions(printStream);
-        boolean validDistribution = false;
-        for (Channel channel : channels) {
-            for (Distribution dist : channel.getDistributions()) {
-                if (distribution.equals(dist.getVersion()) ) {
-                    validDistribution = true;
-                    printStream.println("Run 'bal dist pull " + distribution + "' to fetch and set the distribution " +
-                            "as the active distribution");
-                    break;
-                }
-            }
-        }
-        if (!validDistribution){
-            printStream.println( "'" + distribution + "' is not a valid distribution. Use 'bal dist list -a' for the " +
-                    "available distributions list");
+        switch (new DistributionManager(printStream).use(distribution)) {
+            case ALREADY_ACTIVE:
+                printStream.println("'" + distribution + "' is the current active distribution version");
+                break;
+            case ACTIVATED:
+                printStream.println("'" + distribution + "' successfully set as the active distribution");
+                break;
+            case NOT_INSTALLED:
+                printStream.println("Distribution '" + distribution + "' not found");
+                printStream.println("Run 'bal dist pull " + distribution + "' to fetch and set the distribution " +
+                        "as the active distribution");
+                break;
+            default:
+                printStream.println("Distribution '" + distribution + "' not found");
+                printStream.println( "'" + distribution + "' is not a valid distribution. Use 'bal dist list -a' " +
+                        "for the available distributions list");
         }
     }
 
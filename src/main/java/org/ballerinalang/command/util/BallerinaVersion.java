@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Version of a Ballerina distribution, parsed once and ordered by a precomputed key.
+ *
+ * Three version schemes are ordered: the 1.x versions, the Swan Lake previews ({@code slp}, {@code slalpha} and
+ * {@code slbeta} followed by a number) and the Swan Lake versions such as {@code 2201.4.0}. The previews were
+ * released between the last 1.x version and {@code 2201.0.0}, hence they are ordered as if they were
+ * {@code 2200.<stage>.<number>}. Versions which follow none of the schemes are ordered before all the others.
+ */
+public final class BallerinaVersion implements Comparable<BallerinaVersion> {
+    private static final Pattern SEMVER = Pattern.compile("(\\d{1,6})\\.(\\d{1,6})\\.(\\d{1,6})(-.+)?");
+    private static final Pattern PREVIEW = Pattern.compile("sl(p|alpha|beta)(\\d{1,6})");
+    private static final int PREVIEW_MAJOR = 2200;
+    private static final String JBALLERINA = "jballerina";
+    private static final String BALLERINA = "ballerina";
+    private static final Map<String, BallerinaVersion> VERSIONS = new ConcurrentHashMap<>();
+
+    private final String value;
+    private final int major;
+    private final int minor;
+    private final int patch;
+    private final boolean preview;
+    private final boolean preRelease;
+    private final String type;
+    private final long sortKey;
+
+    private BallerinaVersion(String value) {
+        this.value = value;
+        Matcher semver = SEMVER.matcher(value);
+        Matcher preview = PREVIEW.matcher(value);
+        boolean release = true;
+        if (semver.matches()) {
+            this.major = Integer.parseInt(semver.group(1));
+            this.minor = Integer.parseInt(semver.group(2));
+            this.patch = Integer.parseInt(semver.group(3));
+            this.preview = false;
+            // A version with a pre-release suffix is ordered before the version without it
+            release = semver.group(4) == null;
+        } else if (preview.matches()) {
+            this.major = PREVIEW_MAJOR;
+            this.minor = getPreviewStage(preview.group(1));
+            this.patch = Integer.parseInt(preview.group(2));
+            this.preview = true;
+        } else {
+            this.major = -1;
+            this.minor = -1;
+            this.patch = -1;
+            this.preview = false;
+        }
+        this.preRelease = !release;
+        this.type = value.equals("1") || value.startsWith("1.") ? JBALLERINA : BALLERINA;
+        // 22 bits for the major version, 20 bits each for the minor and patch versions and 1 bit for the release
+        this.sortKey = major < 0 ? -1 :
+                ((long) major << 41) | ((long) minor << 21) | ((long) patch << 1) | (release ? 1 : 0);
+    }
+
+    /**
+     * Provides the version of the given value. Parsed versions are kept, hence the same instance is returned for
+     * the same value.
+     *
+     * @param value version such as 2201.4.0, 1.2.0 or slbeta6
+     * @return version
+     */
+    public static BallerinaVersion of(String value) {
+        return VERSIONS.computeIfAbsent(value, BallerinaVersion::new);
+    }
+
+    private static int getPreviewStage(String stage) {
+        switch (stage) {
+            case "p":
+                return 1;
+            case "alpha":
+                return 2;
+            default:
+                return 3;
+        }
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Provides the major version.
+     *
+     * @return major version or -1 if the version follows none of the known schemes
+     */
+    public int getMajor() {
+        return major;
+    }
+
+    public int getMinor() {
+        return minor;
+    }
+
+    public int getPatch() {
+        return patch;
+    }
+
+    /**
+     * Checks whether the version is a Swan Lake preview, alpha or beta version.
+     *
+     * @return true if the version is a Swan Lake preview
+     */
+    public boolean isPreview() {
+        return preview;
+    }
+
+    /**
+     * Checks whether the version has a pre-release suffix such as {@code 2201.0.0-rc1}.
+     *
+     * @return true if the version has a pre-release suffix
+     */
+    public boolean isPreRelease() {
+        return preRelease;
+    }
+
+    /**
+     * Provides the distribution type, which is also the prefix of the distribution directory.
+     *
+     * @return jballerina for the 1.x versions and ballerina for the others
+     */
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public int compareTo(BallerinaVersion other) {
+        int result = Long.compare(sortKey, other.sortKey);
+        return result != 0 ? result : value.compareTo(other.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof BallerinaVersion && value.equals(((BallerinaVersion) other).value));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -25,6 +25,9 @@ public class Distribution {
     private String type;
     private String channel;
     private String dependency;
+    private String sha256;
+    private String dependencySha256 = "";
+    private BallerinaVersion ballerinaVersion;
 
     public Distribution() {
         this.name = "";
@@ -32,6 +35,7 @@ public class Distribution {
         this.type = "";
         this.channel = "";
         this.dependency = "";
+        this.sha256 = "";
     }
 
     public Distribution(String version) {
@@ -40,6 +44,7 @@ public class Distribution {
         this.type = "";
         this.channel = "";
         this.dependency = "";
+        this.sha256 = "";
     }
 
     public Distribution(String name, String version, String type, String channel, String dependency) {
@@ -48,6 +53,7 @@ public class Distribution {
         this.type = type;
         this.channel = channel;
         this.dependency = dependency;
+        this.sha256 = "";
     }
 
     public String getName() {
@@ -64,6 +70,19 @@ public class Distribution {
 
     public void setVersion(String version) {
         this.version = version;
+        this.ballerinaVersion = null;
+    }
+
+    /**
+     * Provides the parsed version of the distribution which orders the distributions by version.
+     *
+     * @return parsed version
+     */
+    public BallerinaVersion getBallerinaVersion() {
+        if (ballerinaVersion == null) {
+            ballerinaVersion = BallerinaVersion.of(version);
+        }
+        return ballerinaVersion;
     }
 
     public String getType() {
@@ -89,4 +108,30 @@ public class Distribution {
     public void setDependency(String dependency) {
         this.dependency = dependency;
     }
+
+    /**
+     * Provides the SHA-256 checksum of the distribution archive published in the distribution index.
+     *
+     * @return hex encoded checksum or an empty string if it is not published
+     */
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    /**
+     * Provides the SHA-256 checksum of the dependency archive published in the distribution index.
+     *
+     * @return hex encoded checksum or an empty string if it is not published
+     */
+    public String getDependencySha256() {
+        return dependencySha256;
+    }
+
+    public void setDependencySha256(String dependencySha256) {
+        this.dependencySha256 = dependencySha256;
+    }
 }
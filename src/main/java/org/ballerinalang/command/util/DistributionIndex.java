@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distributions published in the remote server, grouped by channel and indexed by version.
+ */
+public class DistributionIndex {
+    public static final String PATCH = "patch";
+    public static final String MINOR = "minor";
+    public static final String MAJOR = "major";
+    public static final String CHANNEL = "channel";
+    private static final List<String> LATEST_TYPES = Arrays.asList(PATCH, MINOR, MAJOR, CHANNEL);
+
+    private final List<Channel> channels;
+    private final Map<String, Distribution> distributions;
+
+    public DistributionIndex(List<Channel> channels) {
+        this.channels = channels;
+        this.distributions = new HashMap<>();
+        for (Channel channel : channels) {
+            for (Distribution distribution : channel.getDistributions()) {
+                distributions.put(distribution.getVersion(), distribution);
+            }
+        }
+    }
+
+    /**
+     * Provides the channels of the index. The returned lists are copies and can be sorted by the caller.
+     *
+     * @return channels with their distributions
+     */
+    public List<Channel> getChannels() {
+        List<Channel> channelsCopy = new ArrayList<>();
+        for (Channel channel : channels) {
+            channelsCopy.add(new Channel(channel.getName(), new ArrayList<>(channel.getDistributions())));
+        }
+        return channelsCopy;
+    }
+
+    /**
+     * Provides the distribution of the given version.
+     *
+     * @param version distribution version
+     * @return distribution or null if the version is not published
+     */
+    public Distribution getDistribution(String version) {
+        return distributions.get(version);
+    }
+
+    public boolean contains(String version) {
+        return distributions.containsKey(version);
+    }
+
+    /**
+     * Provides the dependency required by the given distribution version.
+     *
+     * @param version distribution version
+     * @return dependency name or an empty string if the version is not published
+     */
+    public String getDependency(String version) {
+        Distribution distribution = distributions.get(version);
+        return distribution == null ? "" : distribution.getDependency();
+    }
+
+    /**
+     * Resolves the latest distribution of the given kind for a distribution version. Previews and versions with a
+     * pre-release suffix are never resolved as the latest.
+     *
+     * @param version distribution version
+     * @param type    patch for the same minor version, minor for the same major version, major for any version or
+     *                channel for the same channel
+     * @return latest version, or null if it cannot be resolved from the index
+     */
+    public String getLatest(String version, String type) {
+        Distribution current = distributions.get(version);
+        if (current == null || !isReleased(current.getBallerinaVersion()) || !LATEST_TYPES.contains(type)) {
+            return null;
+        }
+        BallerinaVersion currentVersion = current.getBallerinaVersion();
+        BallerinaVersion latest = currentVersion;
+        for (Distribution distribution : distributions.values()) {
+            BallerinaVersion candidate = distribution.getBallerinaVersion();
+            if (!isReleased(candidate) || candidate.compareTo(latest) <= 0) {
+                continue;
+            }
+            boolean matches;
+            switch (type) {
+                case PATCH:
+                    matches = candidate.getMajor() == currentVersion.getMajor()
+                            && candidate.getMinor() == currentVersion.getMinor();
+                    break;
+                case MINOR:
+                    matches = candidate.getMajor() == currentVersion.getMajor();
+                    break;
+                case CHANNEL:
+                    matches = distribution.getChannel().equals(current.getChannel());
+                    break;
+                default:
+                    matches = true;
+                    break;
+            }
+            if (matches) {
+                latest = candidate;
+            }
+        }
+        return latest.getValue();
+    }
+
+    private static boolean isReleased(BallerinaVersion version) {
+        return version.getMajor() >= 0 && !version.isPreview() && !version.isPreRelease();
+    }
+}
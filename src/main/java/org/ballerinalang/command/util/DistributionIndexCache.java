@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Distribution index persisted in the ballerina home directory together with the validators of the response it was
+ * read from, so that it can be revalidated with a conditional request and used when the remote server is not
+ * reachable. The cache records the remote server it was fetched from and is only used with the same server, since the
+ * staging and dev servers publish other distributions.
+ */
+public class DistributionIndexCache {
+    private static final String SERVER_URL = "serverUrl";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "lastModified";
+    private static final String FETCHED_TIME = "fetchedTime";
+    private static final String CHANNELS = "channels";
+    private static final String DISTRIBUTIONS = "distributions";
+    private static final String NAME = "name";
+    private static final String VERSION = "version";
+    private static final String TYPE = "type";
+    private static final String CHANNEL = "channel";
+    private static final String DEPENDENCY = "dependency";
+    private static final String SHA256 = "sha256";
+    private static final String DEPENDENCY_SHA256 = "dependencySha256";
+
+    private final DistributionIndex index;
+    private final String serverUrl;
+    private final String eTag;
+    private final String lastModified;
+    private final long fetchedTime;
+
+    public DistributionIndexCache(DistributionIndex index, String serverUrl, String eTag, String lastModified,
+                                  long fetchedTime) {
+        this.index = index;
+        this.serverUrl = serverUrl;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.fetchedTime = fetchedTime;
+    }
+
+    public DistributionIndex getIndex() {
+        return index;
+    }
+
+    public String getServerUrl() {
+        return serverUrl;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public long getFetchedTime() {
+        return fetchedTime;
+    }
+
+    /**
+     * Checks whether the cached index can be used without revalidating it with the remote server.
+     *
+     * @param ttl time to live of the cache in milliseconds
+     * @return whether the cache is fresh
+     */
+    public boolean isFresh(long ttl) {
+        long age = System.currentTimeMillis() - fetchedTime;
+        return age >= 0 && age < ttl;
+    }
+
+    /**
+     * Provides a copy of the cache marked as fetched now, used when the remote server confirms that the index has
+     * not been modified.
+     *
+     * @return revalidated cache
+     */
+    public DistributionIndexCache revalidate() {
+        return new DistributionIndexCache(index, serverUrl, eTag, lastModified, System.currentTimeMillis());
+    }
+
+    /**
+     * Reads the cache of the given remote server from the given file.
+     *
+     * @param path      cache file
+     * @param serverUrl URL of the remote server the index is fetched from
+     * @return cache or null if the file does not exist, cannot be read or was fetched from another server
+     */
+    public static DistributionIndexCache read(Path path, String serverUrl) {
+        DistributionIndexCache cache = read(path);
+        return cache == null || !serverUrl.equals(cache.serverUrl) ? null : cache;
+    }
+
+    private static DistributionIndexCache read(Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            JSONObject cacheJson = (JSONObject) new JSONParser().parse(reader);
+            List<Channel> channels = new ArrayList<>();
+            for (Object channelObj : (JSONArray) cacheJson.get(CHANNELS)) {
+                JSONObject channelJson = (JSONObject) channelObj;
+                Channel channel = new Channel(getString(channelJson, NAME));
+                for (Object distributionObj : (JSONArray) channelJson.get(DISTRIBUTIONS)) {
+                    JSONObject distributionJson = (JSONObject) distributionObj;
+                    Distribution distribution = new Distribution(getString(distributionJson, NAME),
+                            getString(distributionJson, VERSION), getString(distributionJson, TYPE),
+                            getString(distributionJson, CHANNEL), getString(distributionJson, DEPENDENCY));
+                    distribution.setSha256(getString(distributionJson, SHA256));
+                    distribution.setDependencySha256(getString(distributionJson, DEPENDENCY_SHA256));
+                    channel.getDistributions().add(distribution);
+                }
+                channels.add(channel);
+            }
+            Object fetchedTime = cacheJson.get(FETCHED_TIME);
+            return new DistributionIndexCache(new DistributionIndex(channels), (String) cacheJson.get(SERVER_URL),
+                    (String) cacheJson.get(ETAG), (String) cacheJson.get(LAST_MODIFIED),
+                    fetchedTime == null ? 0 : ((Number) fetchedTime).longValue());
+        } catch (IOException | ParseException | ClassCastException | NullPointerException e) {
+            // A corrupted cache is treated as a missing one and gets replaced with the next response
+            return null;
+        }
+    }
+
+    /**
+     * Writes the cache to the given file. The content is written to a temporary file first so that concurrent
+     * invocations never read a partially written cache.
+     *
+     * @param path cache file
+     * @throws IOException if the file cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    public void write(Path path) throws IOException {
+        JSONArray channelsJson = new JSONArray();
+        for (Channel channel : index.getChannels()) {
+            JSONArray distributionsJson = new JSONArray();
+            for (Distribution distribution : channel.getDistributions()) {
+                JSONObject distributionJson = new JSONObject();
+                distributionJson.put(NAME, distribution.getName());
+                distributionJson.put(VERSION, distribution.getVersion());
+                distributionJson.put(TYPE, distribution.getType());
+                distributionJson.put(CHANNEL, distribution.getChannel());
+                distributionJson.put(DEPENDENCY, distribution.getDependency());
+                distributionJson.put(SHA256, distribution.getSha256());
+                distributionJson.put(DEPENDENCY_SHA256, distribution.getDependencySha256());
+                distributionsJson.add(distributionJson);
+            }
+            JSONObject channelJson = new JSONObject();
+            channelJson.put(NAME, channel.getName());
+            channelJson.put(DISTRIBUTIONS, distributionsJson);
+            channelsJson.add(channelJson);
+        }
+        JSONObject cacheJson = new JSONObject();
+        cacheJson.put(SERVER_URL, serverUrl);
+        cacheJson.put(ETAG, eTag);
+        cacheJson.put(LAST_MODIFIED, lastModified);
+        cacheJson.put(FETCHED_TIME, fetchedTime);
+        cacheJson.put(CHANNELS, channelsJson);
+
+        File parent = path.getParent().toFile();
+        if (!parent.exists()) {
+            parent.mkdirs();
+            ToolUtil.addWritePermissionToFile(parent);
+        }
+        Path tempFile = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, cacheJson.toJSONString().getBytes(StandardCharsets.UTF_8));
+            ToolUtil.addWritePermissionToFile(tempFile.toFile());
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static String getString(JSONObject json, String key) {
+        Object value = json.get(key);
+        return value == null ? "" : value.toString();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import me.tongfei.progressbar.ProgressBar;
+import me.tongfei.progressbar.ProgressBarStyle;
+import org.ballerinalang.command.api.DownloadListener;
+
+import java.io.PrintStream;
+
+/**
+ * Progress bar shared by the downloads running at the same time, so that concurrent downloads are shown as a single
+ * progress instead of progress bars overwriting each other.
+ */
+public class DownloadProgress implements AutoCloseable {
+    private static final long MB = 1024L * 1024;
+
+    private final ProgressBar progressBar;
+    private final DownloadListener listener;
+    private long total;
+    private long bytes;
+
+    public DownloadProgress(String task, PrintStream printStream) {
+        this(task, printStream, null);
+    }
+
+    public DownloadProgress(String task, PrintStream printStream, DownloadListener listener) {
+        this.progressBar = new ProgressBar(task, 0, 1000, printStream, ProgressBarStyle.ASCII, " MB", 1);
+        this.listener = listener;
+        if (listener != null) {
+            listener.started(task);
+        }
+    }
+
+    /**
+     * Adds the length of a download to the total once it is known.
+     *
+     * @param length length in bytes, a negative value removes the length of a download given up on
+     */
+    synchronized void addTotal(long length) {
+        total += length;
+        progressBar.maxHint(total / MB);
+        if (listener != null) {
+            listener.progressed(bytes, total);
+        }
+    }
+
+    /**
+     * Adds downloaded bytes to the progress.
+     *
+     * @param count number of bytes, a negative value removes the bytes of a download given up on
+     */
+    synchronized void add(long count) {
+        bytes += count;
+        progressBar.stepTo(bytes / MB);
+        if (listener != null) {
+            listener.progressed(bytes, total);
+        }
+    }
+
+    /**
+     * Sets the status shown next to the progress, such as the number of completed downloads.
+     *
+     * @param status status message
+     */
+    public synchronized void setStatus(String status) {
+        progressBar.setExtraMessage(status);
+    }
+
+    /**
+     * Creates a listener which adds the progress of a download to this progress, so that the downloads of several
+     * distributions are shown as one progress.
+     *
+     * @return listener of a download
+     */
+    public DownloadListener createItemListener() {
+        return new DownloadListener() {
+            private long itemBytes;
+            private long itemTotal;
+
+            @Override
+            public void started(String task) {
+            }
+
+            @Override
+            public synchronized void progressed(long bytes, long totalBytes) {
+                if (totalBytes != itemTotal) {
+                    addTotal(totalBytes - itemTotal);
+                    itemTotal = totalBytes;
+                }
+                if (bytes != itemBytes) {
+                    add(bytes - itemBytes);
+                    itemBytes = bytes;
+                }
+            }
+
+            @Override
+            public void finished() {
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        progressBar.close();
+        if (listener != null) {
+            listener.finished();
+        }
+    }
+}
@@ -0,0 +1,890 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Downloads files of the remote server. When the server accepts byte ranges the file is split into segments which are
+ * fetched over concurrent connections and written in place into a preallocated file, otherwise the file is streamed
+ * over the given connection. The requests made again, for the byte ranges or to start over, carry the same request
+ * headers as the given connection.
+ *
+ * Files are written to a {@code .part} file next to the target and renamed once complete. A sidecar records the
+ * validator of the response and the bytes completed in each segment, so that an interrupted download continues from
+ * where it stopped with {@code Range}/{@code If-Range} requests.
+ *
+ * Downloads are verified against the SHA-256 checksum given by the caller or published by the server, and are
+ * restarted once if the checksum does not match.
+ */
+public class DownloadUtil {
+    private static final String DOWNLOAD_CONNECTIONS = System.getenv("BALLERINA_DOWNLOAD_CONNECTIONS");
+    private static final boolean DOWNLOAD_STREAMING =
+            !"false".equalsIgnoreCase(System.getenv("BALLERINA_DOWNLOAD_STREAMING"));
+    private static final int DEFAULT_DOWNLOAD_CONNECTIONS = 4;
+    private static final long MIN_SEGMENT_SIZE = 8L * 1024 * 1024;
+    private static final long CHECKPOINT_INTERVAL = 4L * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String PART_EXTENSION = ".part";
+    private static final String STATE_EXTENSION = ".part.properties";
+
+    private DownloadUtil() {
+    }
+
+    /**
+     * Downloads the response body of the connection to the given file.
+     *
+     * @param conn              connection to the file, the request is not sent yet or the response is not consumed
+     *                          yet
+     * @param requestProperties request headers the connection was created with
+     * @param target            file to write to
+     * @param fileName          name of the file shown in the progress bar
+     * @param printStream       stream which messages should be printed
+     * @throws IOException if the file cannot be downloaded
+     */
+    public static void downloadFile(HttpURLConnection conn, Map<String, String> requestProperties, Path target,
+                                    String fileName, PrintStream printStream) throws IOException {
+        try (DownloadProgress progress = new DownloadProgress("Downloading " + fileName, printStream)) {
+            downloadFile(conn, requestProperties, target, fileName, null, progress, printStream);
+        }
+    }
+
+    /**
+     * Downloads the response body of the connection to the given file reporting to a progress shared with other
+     * downloads.
+     *
+     * @param conn              connection to the file, the request is not sent yet or the response is not consumed
+     *                          yet
+     * @param requestProperties request headers the connection was created with
+     * @param target            file to write to
+     * @param fileName          name of the file shown in messages
+     * @param sha256            expected SHA-256 checksum of the file, or null to use the one published by the server
+     *                          if any
+     * @param progress          progress to report to
+     * @param printStream       stream which messages should be printed
+     * @throws IOException if the file cannot be downloaded
+     */
+    public static void downloadFile(HttpURLConnection conn, Map<String, String> requestProperties, Path target,
+                                    String fileName, String sha256, DownloadProgress progress,
+                                    PrintStream printStream) throws IOException {
+        downloadFile(conn, new Request(conn.getURL(), requestProperties, printStream), target, fileName, sha256,
+                progress, printStream);
+    }
+
+    private static void downloadFile(HttpURLConnection conn, Request request, Path target, String fileName,
+                                     String sha256, DownloadProgress progress, PrintStream printStream)
+            throws IOException {
+        try {
+            download(conn, request, target, fileName, sha256, progress, printStream);
+        } catch (ValidatorMismatchException e) {
+            // The file changed on the remote server after the partial download, hence start over
+            printStream.println("'" + fileName + "' has changed on the remote server. Restarting the download");
+            deletePartialDownload(target);
+            download(request.open(), request, target, fileName, sha256, progress, printStream);
+        } catch (ChecksumMismatchException e) {
+            printStream.println("Checksum of '" + fileName + "' does not match. Restarting the download");
+            download(request.open(), request, target, fileName, sha256, progress, printStream);
+        }
+    }
+
+    /**
+     * Downloads a zip archive and extracts it to the given directory. The response body is extracted as it arrives,
+     * so that the archive is never written to disk. The archive is downloaded to the given zip file instead, over
+     * concurrent byte ranges and resumable, and then extracted in parallel when a previous attempt left a partial
+     * download behind, when the server does not accept byte ranges, when the stream fails and is retried, or with
+     * {@code BALLERINA_DOWNLOAD_STREAMING=false}.
+     *
+     * @param conn              connection to the archive
+     * @param requestProperties request headers the connection was created with
+     * @param zipFile           file the archive is downloaded to
+     * @param destination       directory to extract to, any existing content is replaced
+     * @param defaultMode       mode of the entries without a mode recorded in the archive
+     * @param fileName          name of the archive shown in the progress bar
+     * @param printStream       stream which messages should be printed
+     * @throws IOException if the archive cannot be downloaded or extracted
+     */
+    public static void downloadAndExtract(HttpURLConnection conn, Map<String, String> requestProperties, Path zipFile,
+                                          Path destination, int defaultMode, String fileName,
+                                          PrintStream printStream) throws IOException {
+        try (DownloadProgress progress = new DownloadProgress("Downloading " + fileName, printStream)) {
+            downloadAndExtract(conn, requestProperties, zipFile, destination, defaultMode, fileName, null, progress,
+                    printStream);
+        }
+    }
+
+    /**
+     * Downloads a zip archive and extracts it to the given directory reporting to a progress shared with other
+     * downloads.
+     *
+     * @param conn              connection to the archive
+     * @param requestProperties request headers the connection was created with
+     * @param zipFile           file the archive is downloaded to
+     * @param destination       directory to extract to, any existing content is replaced
+     * @param defaultMode       mode of the entries without a mode recorded in the archive
+     * @param fileName          name of the archive shown in messages
+     * @param sha256            expected SHA-256 checksum of the archive, or null to use the one published by the
+     *                          server if any
+     * @param progress          progress to report to
+     * @param printStream       stream which messages should be printed
+     * @throws IOException if the archive cannot be downloaded or extracted
+     */
+    public static void downloadAndExtract(HttpURLConnection conn, Map<String, String> requestProperties, Path zipFile,
+                                          Path destination, int defaultMode, String fileName, String sha256,
+                                          DownloadProgress progress, PrintStream printStream) throws IOException {
+        Request request = new Request(conn.getURL(), requestProperties, printStream);
+        deleteDirectory(destination);
+        if (!DOWNLOAD_STREAMING || Files.exists(getPartFile(zipFile))) {
+            spoolAndExtract(conn, request, zipFile, destination, defaultMode, fileName, sha256, progress,
+                    printStream);
+            return;
+        }
+        int responseCode = HttpUtil.getResponseCode(conn);
+        if (responseCode != HttpURLConnection.HTTP_OK) {
+            throw new IOException("download failed with the status " + responseCode);
+        }
+        if (!"bytes".equalsIgnoreCase(conn.getHeaderField("Accept-Ranges"))) {
+            spoolAndExtract(conn, request, zipFile, destination, defaultMode, fileName, sha256, progress,
+                    printStream);
+            return;
+        }
+        Progress streamProgress = null;
+        try {
+            String expectedSha256 = sha256 != null ? sha256 : getPublishedSha256(conn);
+            MessageDigest digest = createDigest();
+            streamProgress = new Progress(progress, conn.getContentLengthLong(), null);
+            // The extractor reads the stream to the end, hence the digest covers the whole archive
+            try (InputStream in = new DigestInputStream(new ProgressInputStream(conn.getInputStream(),
+                    streamProgress), digest)) {
+                ZipUtil.extract(in, destination, defaultMode);
+            }
+            if (expectedSha256 != null && !expectedSha256.equalsIgnoreCase(toHex(digest.digest()))) {
+                throw new ChecksumMismatchException();
+            }
+        } catch (IOException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw e;
+            }
+            if (e instanceof ChecksumMismatchException) {
+                printStream.println("Checksum of '" + fileName + "' does not match. Retrying the download");
+            } else {
+                printStream.println("Download of '" + fileName + "' was interrupted. Retrying the download");
+            }
+            if (streamProgress != null) {
+                streamProgress.reset();
+            }
+            HttpUtil.release(conn);
+            deleteDirectory(destination);
+            spoolAndExtract(request.open(), request, zipFile, destination, defaultMode, fileName, sha256, progress,
+                    printStream);
+        }
+    }
+
+    private static void spoolAndExtract(HttpURLConnection conn, Request request, Path zipFile, Path destination,
+                                        int defaultMode, String fileName, String sha256, DownloadProgress progress,
+                                        PrintStream printStream) throws IOException {
+        downloadFile(conn, request, zipFile, fileName, sha256, progress, printStream);
+        try {
+            ZipUtil.extract(zipFile, destination, defaultMode);
+        } finally {
+            Files.deleteIfExists(zipFile);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        if (Files.exists(directory)) {
+            OSUtils.deleteFiles(directory);
+        }
+    }
+
+    /**
+     * Deletes the partially downloaded file of the given target along with its sidecar.
+     *
+     * @param target file being downloaded
+     * @throws IOException if the files cannot be deleted
+     */
+    public static void deletePartialDownload(Path target) throws IOException {
+        Files.deleteIfExists(getPartFile(target));
+        Files.deleteIfExists(getStateFile(target));
+    }
+
+    private static void download(HttpURLConnection conn, Request request, Path target, String fileName,
+                                 String sha256, DownloadProgress downloadProgress, PrintStream printStream)
+            throws IOException {
+        Path partFile = getPartFile(target);
+        Path stateFile = getStateFile(target);
+        DownloadState state = Files.exists(partFile) ? DownloadState.read(stateFile) : null;
+        Segment resumedSegment = state == null ? null : state.getFirstIncompleteSegment();
+        if (resumedSegment != null && !requestRange(conn, resumedSegment, state.validator)) {
+            // The response has already been received, hence the remaining ranges are requested separately
+            resumedSegment = null;
+        }
+
+        Segment connSegment;
+        int responseCode = HttpUtil.getResponseCode(conn);
+        if (responseCode == HttpURLConnection.HTTP_PARTIAL && resumedSegment != null) {
+            if (state.length != getTotalLength(conn)) {
+                // The validator matched but the file has another length, hence the partial download is not of it
+                HttpUtil.release(conn);
+                throw new ValidatorMismatchException();
+            }
+            connSegment = resumedSegment;
+        } else if (responseCode == HttpURLConnection.HTTP_OK) {
+            long contentLength = conn.getContentLengthLong();
+            String validator = getValidator(conn);
+            boolean acceptsRanges = "bytes".equalsIgnoreCase(conn.getHeaderField("Accept-Ranges"));
+            if (state != null && resumedSegment == null && acceptsRanges && state.matches(validator, contentLength)) {
+                HttpUtil.release(conn);
+                connSegment = null;
+            } else {
+                int segmentCount = acceptsRanges ? getSegmentCount(contentLength) : 1;
+                state = new DownloadState(stateFile, conn.getURL().toString(), validator, contentLength,
+                        segmentCount);
+                state.sha256 = getPublishedSha256(conn);
+                if (segmentCount > 1) {
+                    // Every segment is requested as a range, so that none of them is read from a response which goes
+                    // on past its end
+                    HttpUtil.release(conn);
+                    connSegment = null;
+                } else {
+                    connSegment = state.segments.get(0);
+                }
+                try (RandomAccessFile file = new RandomAccessFile(partFile.toFile(), "rw")) {
+                    file.setLength(Math.max(contentLength, 0));
+                }
+                state.save();
+            }
+        } else {
+            throw new IOException("download failed with the status " + responseCode);
+        }
+
+        if (sha256 != null) {
+            state.sha256 = sha256;
+        }
+        if (state.getCompletedBytes() > 0) {
+            printStream.println("Resuming the download of '" + fileName + "'");
+        }
+        Progress progress = new Progress(downloadProgress, state.length, state);
+        byte[] actualDigest = null;
+        try (RandomAccessFile file = new RandomAccessFile(partFile.toFile(), "rw")) {
+            SegmentDigest digest = state.sha256 == null ? null : new SegmentDigest(file.getChannel(), state.segments);
+            downloadSegments(conn, connSegment, digest, request, file.getChannel(), state, progress);
+            if (digest != null) {
+                actualDigest = digest.digest();
+            }
+        } catch (IOException e) {
+            state.save();
+            if (e instanceof ValidatorMismatchException) {
+                progress.reset();
+            }
+            throw e;
+        }
+        if (actualDigest != null) {
+            if (!state.sha256.equalsIgnoreCase(toHex(actualDigest))) {
+                progress.reset();
+                deletePartialDownload(target);
+                throw new ChecksumMismatchException();
+            }
+        }
+        Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(stateFile);
+    }
+
+    /**
+     * Requests the remaining range of a partially downloaded segment with the connection. The range is only served if
+     * the file still matches the validator, otherwise the server responds with the whole file.
+     *
+     * @return false if the request has already been sent
+     */
+    private static boolean requestRange(HttpURLConnection conn, Segment segment, String validator) {
+        try {
+            conn.setRequestProperty("Range", "bytes=" + (segment.start + segment.completed.get()) + "-" + segment.end);
+            conn.setRequestProperty("If-Range", validator);
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private static long getTotalLength(HttpURLConnection conn) {
+        String contentRange = conn.getHeaderField("Content-Range");
+        if (contentRange == null || contentRange.indexOf('/') < 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentRange.substring(contentRange.indexOf('/') + 1).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int getSegmentCount(long contentLength) {
+        int connections = getDownloadConnections();
+        if (connections <= 1 || contentLength < 2 * MIN_SEGMENT_SIZE) {
+            return 1;
+        }
+        return (int) Math.min(connections, contentLength / MIN_SEGMENT_SIZE);
+    }
+
+    private static int getDownloadConnections() {
+        if (DOWNLOAD_CONNECTIONS != null) {
+            try {
+                return Integer.parseInt(DOWNLOAD_CONNECTIONS.trim());
+            } catch (NumberFormatException e) {
+                // Falls back to the default number of connections
+            }
+        }
+        return DEFAULT_DOWNLOAD_CONNECTIONS;
+    }
+
+    /**
+     * Provides the validator used to make sure a partial download is continued with the same file. A strong ETag is
+     * preferred over the last modified date.
+     */
+    private static String getValidator(HttpURLConnection conn) {
+        String eTag = conn.getHeaderField("ETag");
+        if (eTag != null && !eTag.startsWith("W/")) {
+            return eTag;
+        }
+        return conn.getHeaderField("Last-Modified");
+    }
+
+    /**
+     * Provides the SHA-256 checksum the server publishes for the response in a {@code Repr-Digest} or {@code Digest}
+     * header.
+     *
+     * @return hex encoded checksum or null if none is published
+     */
+    private static String getPublishedSha256(HttpURLConnection conn) {
+        for (String header : new String[]{"Repr-Digest", "Digest"}) {
+            String value = conn.getHeaderField(header);
+            if (value == null) {
+                continue;
+            }
+            for (String digest : value.split(",")) {
+                int separator = digest.indexOf('=');
+                if (separator > 0 && "sha-256".equalsIgnoreCase(digest.substring(0, separator).trim())) {
+                    String encoded = digest.substring(separator + 1).trim().replace(":", "");
+                    try {
+                        return toHex(Base64.getDecoder().decode(encoded));
+                    } catch (IllegalArgumentException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Downloads the incomplete segments of the file. The segment served by the given connection is read from it and
+     * the rest are requested as byte ranges of the same URL.
+     */
+    private static void downloadSegments(HttpURLConnection conn, Segment connSegment, SegmentDigest digest,
+                                         Request request, FileChannel channel, DownloadState state,
+                                         Progress progress) throws IOException {
+        List<Segment> rangedSegments = new ArrayList<>();
+        for (Segment segment : state.segments) {
+            if (!segment.isComplete() && segment != connSegment) {
+                rangedSegments.add(segment);
+            }
+        }
+        if (rangedSegments.isEmpty()) {
+            if (connSegment != null) {
+                try (InputStream in = conn.getInputStream()) {
+                    transfer(in, channel, connSegment, progress, digest);
+                }
+            }
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(rangedSegments.size(), runnable -> {
+            Thread thread = new Thread(runnable, "download-segment");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Segment segment : rangedSegments) {
+                futures.add(executorService.submit(() -> {
+                    downloadRange(request, channel, segment, state.validator, progress, digest);
+                    return null;
+                }));
+            }
+            if (connSegment != null) {
+                try (InputStream in = conn.getInputStream()) {
+                    transfer(in, channel, connSegment, progress, digest);
+                }
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("download interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static void downloadRange(Request request, FileChannel channel, Segment segment, String validator,
+                                      Progress progress, SegmentDigest digest) throws IOException {
+        HttpURLConnection conn = request.open();
+        try {
+            conn.setRequestProperty("Range", "bytes=" + (segment.start + segment.completed.get()) + "-" + segment.end);
+            if (validator != null) {
+                conn.setRequestProperty("If-Range", validator);
+            }
+            if (HttpUtil.getResponseCode(conn) == HttpURLConnection.HTTP_OK) {
+                throw new ValidatorMismatchException();
+            }
+            if (HttpUtil.getResponseCode(conn) != HttpURLConnection.HTTP_PARTIAL) {
+                throw new IOException("range request failed with the status " + HttpUtil.getResponseCode(conn));
+            }
+            try (InputStream in = conn.getInputStream()) {
+                transfer(in, channel, segment, progress, digest);
+            }
+        } finally {
+            HttpUtil.release(conn);
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of the segment from the stream to the channel and to the digest, if any. A segment of
+     * unknown length is written until the end of the stream.
+     */
+    private static void transfer(InputStream in, FileChannel channel, Segment segment, Progress progress,
+                                 SegmentDigest digest) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (!segment.isComplete()) {
+            checkInterrupted();
+            long position = segment.start + segment.completed.get();
+            int count = in.read(buffer, 0, (int) Math.min(buffer.length, segment.getRemaining()));
+            if (count < 0) {
+                if (segment.end < 0) {
+                    return;
+                }
+                throw new IOException("connection closed before the download was completed");
+            }
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, count);
+            long writePosition = position;
+            while (byteBuffer.hasRemaining()) {
+                writePosition += channel.write(byteBuffer, writePosition);
+            }
+            segment.completed.addAndGet(count);
+            if (digest != null) {
+                digest.update(buffer, count, position);
+            }
+            progress.add(count);
+        }
+    }
+
+    /**
+     * Stops a download whose thread is interrupted, since reading from the socket does not respond to interrupts.
+     */
+    private static void checkInterrupted() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("download interrupted");
+        }
+    }
+
+    private static Path getPartFile(Path target) {
+        return target.resolveSibling(target.getFileName() + PART_EXTENSION);
+    }
+
+    private static Path getStateFile(Path target) {
+        return target.resolveSibling(target.getFileName() + STATE_EXTENSION);
+    }
+
+    /**
+     * Byte range of the file and the number of bytes of it written so far. A segment ending at -1 has an unknown
+     * length.
+     */
+    private static class Segment {
+        private final long start;
+        private final long end;
+        private final AtomicLong completed;
+
+        private Segment(long start, long end, long completed) {
+            this.start = start;
+            this.end = end;
+            this.completed = new AtomicLong(completed);
+        }
+
+        private long getRemaining() {
+            return end < 0 ? Long.MAX_VALUE : end - start + 1 - completed.get();
+        }
+
+        private boolean isComplete() {
+            return getRemaining() <= 0;
+        }
+    }
+
+    /**
+     * SHA-256 digest of a file written in segments, which is fed with the contiguous prefix of the file as the
+     * segments are written. Bytes written at the end of the prefix are hashed from the buffer they are written from.
+     * Bytes a later segment wrote before the prefix reached them, and bytes of an earlier attempt of the download, are
+     * read back from the file as soon as the segments before them are complete. Hence the download is not hashed
+     * again once complete.
+     */
+    private static class SegmentDigest {
+        private final MessageDigest digest = createDigest();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final FileChannel channel;
+        private final List<Segment> segments;
+        private long hashed;
+
+        private SegmentDigest(FileChannel channel, List<Segment> segments) {
+            this.channel = channel;
+            this.segments = segments;
+        }
+
+        /**
+         * Hashes the bytes written to the given position of the file, once the bytes before them are hashed.
+         */
+        private void update(byte[] bytes, int count, long position) throws IOException {
+            // The thread holding the digest reads these bytes back from the file, so that a writer never waits on it
+            if (!lock.tryLock()) {
+                return;
+            }
+            try {
+                if (position <= hashed && position + count > hashed) {
+                    int offset = (int) (hashed - position);
+                    digest.update(bytes, offset, count - offset);
+                    hashed = position + count;
+                }
+                catchUp();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Completes the digest once every segment is written.
+         */
+        private byte[] digest() throws IOException {
+            lock.lock();
+            try {
+                catchUp();
+                return digest.digest();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Hashes the bytes already written after the prefix, up to the first segment which is not complete.
+         */
+        private void catchUp() throws IOException {
+            for (Segment segment : segments) {
+                long written = segment.start + segment.completed.get();
+                while (hashed < written) {
+                    buffer.clear();
+                    buffer.limit((int) Math.min(buffer.capacity(), written - hashed));
+                    int count = channel.read(buffer, hashed);
+                    if (count < 0) {
+                        throw new IOException("downloaded file is shorter than its segments");
+                    }
+                    buffer.flip();
+                    digest.update(buffer);
+                    hashed += count;
+                }
+                if (!segment.isComplete()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * State of a download persisted in the sidecar of the {@code .part} file.
+     */
+    private static class DownloadState {
+        private static final String URL = "url";
+        private static final String VALIDATOR = "validator";
+        private static final String LENGTH = "length";
+        private static final String SEGMENTS = "segments";
+        private static final String SHA256 = "sha256";
+
+        private final Path file;
+        private final String url;
+        private final String validator;
+        private final long length;
+        private final List<Segment> segments;
+        private String sha256;
+
+        private DownloadState(Path file, String url, String validator, long length, List<Segment> segments) {
+            this.file = file;
+            this.url = url;
+            this.validator = validator;
+            this.length = length;
+            this.segments = segments;
+        }
+
+        private DownloadState(Path file, String url, String validator, long length, int segmentCount) {
+            this(file, url, validator, length, new ArrayList<>());
+            if (length < 0) {
+                segments.add(new Segment(0, -1, 0));
+                return;
+            }
+            long segmentSize = length / segmentCount;
+            for (int i = 0; i < segmentCount; i++) {
+                long start = i * segmentSize;
+                long end = i == segmentCount - 1 ? length - 1 : start + segmentSize - 1;
+                segments.add(new Segment(start, end, 0));
+            }
+        }
+
+        /**
+         * Only a download of a known length with a validator can be continued safely.
+         */
+        private boolean isResumable() {
+            return validator != null && length > 0;
+        }
+
+        private boolean matches(String validator, long length) {
+            return isResumable() && this.validator.equals(validator) && this.length == length;
+        }
+
+        private Segment getFirstIncompleteSegment() {
+            for (Segment segment : segments) {
+                if (!segment.isComplete()) {
+                    return segment;
+                }
+            }
+            return null;
+        }
+
+        private long getCompletedBytes() {
+            long completed = 0;
+            for (Segment segment : segments) {
+                completed += segment.completed.get();
+            }
+            return completed;
+        }
+
+        private static DownloadState read(Path file) {
+            if (!Files.exists(file)) {
+                return null;
+            }
+            try (InputStream in = Files.newInputStream(file)) {
+                Properties properties = new Properties();
+                properties.load(in);
+                List<Segment> segments = new ArrayList<>();
+                for (String segment : properties.getProperty(SEGMENTS).split(";")) {
+                    String[] parts = segment.split(":");
+                    segments.add(new Segment(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                            Long.parseLong(parts[2])));
+                }
+                DownloadState state = new DownloadState(file, properties.getProperty(URL),
+                        properties.getProperty(VALIDATOR), Long.parseLong(properties.getProperty(LENGTH)), segments);
+                state.sha256 = properties.getProperty(SHA256);
+                return state;
+            } catch (IOException | RuntimeException e) {
+                // A corrupted sidecar is treated as a missing one and the download starts over
+                return null;
+            }
+        }
+
+        private synchronized void save() throws IOException {
+            if (!isResumable()) {
+                return;
+            }
+            StringBuilder segmentsValue = new StringBuilder();
+            for (Segment segment : segments) {
+                if (segmentsValue.length() > 0) {
+                    segmentsValue.append(';');
+                }
+                segmentsValue.append(segment.start).append(':').append(segment.end).append(':')
+                        .append(segment.completed.get());
+            }
+            Properties properties = new Properties();
+            properties.setProperty(URL, url);
+            properties.setProperty(VALIDATOR, validator);
+            properties.setProperty(LENGTH, Long.toString(length));
+            properties.setProperty(SEGMENTS, segmentsValue.toString());
+            if (sha256 != null) {
+                properties.setProperty(SHA256, sha256);
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, null);
+            }
+        }
+    }
+
+    /**
+     * Progress of a single download shared by its segments. The state, if any, is checkpointed to the sidecar as the
+     * download progresses so that a killed process loses at most a few megabytes.
+     */
+    private static class Progress {
+        private final DownloadProgress downloadProgress;
+        private final DownloadState state;
+        private long total;
+        private long bytes;
+        private long lastCheckpoint;
+
+        private Progress(DownloadProgress downloadProgress, long total, DownloadState state) {
+            this.downloadProgress = downloadProgress;
+            this.state = state;
+            this.total = Math.max(total, 0);
+            this.bytes = state == null ? 0 : state.getCompletedBytes();
+            this.lastCheckpoint = bytes;
+            downloadProgress.addTotal(this.total);
+            downloadProgress.add(bytes);
+        }
+
+        private synchronized void add(long count) throws IOException {
+            bytes += count;
+            downloadProgress.add(count);
+            if (state != null && bytes - lastCheckpoint >= CHECKPOINT_INTERVAL) {
+                state.save();
+                lastCheckpoint = bytes;
+            }
+        }
+
+        /**
+         * Removes the download from the shared progress when it is given up on and started over.
+         */
+        private synchronized void reset() {
+            downloadProgress.add(-bytes);
+            downloadProgress.addTotal(-total);
+            bytes = 0;
+            total = 0;
+        }
+    }
+
+    /**
+     * Stream which reports the bytes read from a response body to the progress of the download.
+     */
+    private static class ProgressInputStream extends FilterInputStream {
+        private final Progress progress;
+
+        private ProgressInputStream(InputStream in, Progress progress) {
+            super(in);
+            this.progress = progress;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                progress.add(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            checkInterrupted();
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                progress.add(count);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Request of the file which is made again for the byte ranges of the file or to start the download over.
+     */
+    private static class Request {
+        private final URL url;
+        private final Map<String, String> properties;
+        private final PrintStream printStream;
+
+        private Request(URL url, Map<String, String> properties, PrintStream printStream) {
+            this.url = url;
+            this.properties = properties;
+            this.printStream = printStream;
+        }
+
+        private HttpURLConnection open() throws IOException {
+            return HttpUtil.openConnection(url, properties, printStream);
+        }
+    }
+
+    /**
+     * Thrown when the checksum of a downloaded file does not match the expected one.
+     */
+    private static class ChecksumMismatchException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private ChecksumMismatchException() {
+            super("checksum of the downloaded file does not match");
+        }
+    }
+
+    /**
+     * Thrown when the file on the remote server is not the one a partial download was started with.
+     */
+    private static class ValidatorMismatchException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private ValidatorMismatchException() {
+            super("the file was modified on the remote server");
+        }
+    }
+}
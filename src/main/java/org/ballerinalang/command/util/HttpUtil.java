@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Shared HTTP client layer used by every remote call of the update tool.
+ *
+ * Connections are never disconnected explicitly once a response is received. Instead the response body is closed so
+ * that the underlying socket goes back to the JVM keep-alive cache and the next request to the same host reuses the
+ * TCP connection and the TLS session. The response code is read through {@link #getResponseCode(HttpURLConnection)}
+ * so that the connections with a response are known.
+ */
+public class HttpUtil {
+    private static final String MAX_CONNECTIONS_PROPERTY = "http.maxConnections";
+    private static final String KEEP_ALIVE_PROPERTY = "http.keepAlive";
+    private static final String MAX_IDLE_CONNECTIONS_PER_HOST = "10";
+    // Connections whose response has been received, the others have no socket to give back to the keep-alive cache
+    private static final Set<HttpURLConnection> RESPONDED_CONNECTIONS =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    static {
+        // These are read once when the JDK keep-alive cache is initialized, hence set before the first request.
+        if (System.getProperty(KEEP_ALIVE_PROPERTY) == null) {
+            System.setProperty(KEEP_ALIVE_PROPERTY, "true");
+        }
+        if (System.getProperty(MAX_CONNECTIONS_PROPERTY) == null) {
+            System.setProperty(MAX_CONNECTIONS_PROPERTY, MAX_IDLE_CONNECTIONS_PER_HOST);
+        }
+    }
+
+    private HttpUtil() {
+    }
+
+    /**
+     * Opens a connection to the given URL honouring the proxy configuration.
+     *
+     * @param url         URL to connect to
+     * @param printStream stream which messages should be printed
+     * @return connection to the URL
+     * @throws IOException if the connection cannot be opened
+     */
+    public static HttpURLConnection openConnection(URL url, PrintStream printStream) throws IOException {
+        return ToolUtil.getServerUrlWithProxyAuthentication(url, printStream);
+    }
+
+    /**
+     * Opens a connection to the given URL with the given request headers.
+     *
+     * @param url               URL to connect to
+     * @param requestProperties request headers of the request
+     * @param printStream       stream which messages should be printed
+     * @return connection to the URL
+     * @throws IOException if the connection cannot be opened
+     */
+    public static HttpURLConnection openConnection(URL url, Map<String, String> requestProperties,
+                                                    PrintStream printStream) throws IOException {
+        HttpURLConnection conn = openConnection(url, printStream);
+        for (Map.Entry<String, String> requestProperty : requestProperties.entrySet()) {
+            conn.setRequestProperty(requestProperty.getKey(), requestProperty.getValue());
+        }
+        return conn;
+    }
+
+    /**
+     * Provides the request headers of a GET request which accepts a JSON response. Downloads keep the headers so that
+     * the requests they make again, for byte ranges or retries, are the same as the first one.
+     *
+     * @param userAgent user agent of the request
+     * @return modifiable request headers
+     */
+    public static Map<String, String> getGetRequestProperties(String userAgent) {
+        Map<String, String> requestProperties = new LinkedHashMap<>();
+        requestProperties.put("user-agent", userAgent);
+        requestProperties.put("Accept", "application/json");
+        return requestProperties;
+    }
+
+    /**
+     * Creates a GET request which accepts a JSON response.
+     *
+     * @param url         URL to connect to
+     * @param userAgent   user agent of the request
+     * @param printStream stream which messages should be printed
+     * @return connection to the URL
+     * @throws IOException if the connection cannot be opened
+     */
+    public static HttpURLConnection createGetRequest(URL url, String userAgent, PrintStream printStream)
+            throws IOException {
+        return createGetRequest(url, getGetRequestProperties(userAgent), printStream);
+    }
+
+    /**
+     * Creates a GET request with the given request headers.
+     *
+     * @param url               URL to connect to
+     * @param requestProperties request headers of the request
+     * @param printStream       stream which messages should be printed
+     * @return connection to the URL
+     * @throws IOException if the connection cannot be opened
+     */
+    public static HttpURLConnection createGetRequest(URL url, Map<String, String> requestProperties,
+                                                      PrintStream printStream) throws IOException {
+        HttpURLConnection conn = openConnection(url, requestProperties, printStream);
+        conn.setRequestMethod("GET");
+        return conn;
+    }
+
+    /**
+     * Sends the request of the connection, if not sent yet, and provides the response code.
+     *
+     * @param conn connection to read the response code of
+     * @return response code
+     * @throws IOException if the response cannot be received
+     */
+    public static int getResponseCode(HttpURLConnection conn) throws IOException {
+        int responseCode = conn.getResponseCode();
+        RESPONDED_CONNECTIONS.add(conn);
+        return responseCode;
+    }
+
+    /**
+     * Releases the connection back to the keep-alive cache.
+     *
+     * Closing the response stream lets the JDK drain what is left of the body and keep the socket open, whereas
+     * {@link HttpURLConnection#disconnect()} would tear down the TCP connection and the TLS session with it. A
+     * connection without a response is disconnected instead, since reading its response stream would connect once
+     * more and, when the remote server cannot be reached, wait for another connect timeout.
+     *
+     * @param conn connection to release
+     */
+    public static void release(HttpURLConnection conn) {
+        if (conn == null) {
+            return;
+        }
+        if (!RESPONDED_CONNECTIONS.remove(conn)) {
+            conn.disconnect();
+            return;
+        }
+        try {
+            closeQuietly(conn.getInputStream());
+        } catch (IOException e) {
+            InputStream errorStream = conn.getErrorStream();
+            if (errorStream != null) {
+                closeQuietly(errorStream);
+            } else {
+                conn.disconnect();
+            }
+        }
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignore) {
+            // The connection is dropped from the keep-alive cache if the stream cannot be closed cleanly
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Directories of the Ballerina installation the update tool runs from.
+ *
+ * The installation directory is resolved from the location of the update tool jar once per process, and the
+ * distributions and dependencies directories are created on first use instead of being checked on every lookup.
+ */
+public class InstallationLayout {
+    private static final String DISTRIBUTIONS = "distributions";
+    private static final String DEPENDENCIES = "dependencies";
+    private static final String TOOL_UNZIP_DIRECTORY = "ballerina-command-tmp";
+
+    private static InstallationLayout layout;
+
+    private final Path root;
+    private final Path distributions;
+    private final Path dependencies;
+    private final Path toolUnzipDirectory;
+    private final Path ballerinaHome;
+    private volatile boolean distributionsCreated;
+    private volatile boolean dependenciesCreated;
+
+    /**
+     * Creates the layout of the installation in the given directory.
+     *
+     * @param root          installation directory
+     * @param ballerinaHome ballerina home directory of the user
+     */
+    public InstallationLayout(Path root, Path ballerinaHome) {
+        this.root = root;
+        this.distributions = root.resolve(DISTRIBUTIONS);
+        this.dependencies = root.resolve(DEPENDENCIES);
+        this.toolUnzipDirectory = root.resolve(TOOL_UNZIP_DIRECTORY);
+        this.ballerinaHome = ballerinaHome;
+    }
+
+    /**
+     * Provides the layout of the installation the update tool runs from.
+     *
+     * @return installation layout
+     */
+    public static synchronized InstallationLayout getInstance() {
+        if (layout == null) {
+            try {
+                layout = new InstallationLayout(Paths.get(OSUtils.getInstallationPath()),
+                        Paths.get(OSUtils.getUserHome(), OSUtils.BALLERINA_HOME_DIR));
+            } catch (URISyntaxException e) {
+                throw ErrorUtil.createCommandException(
+                        "failed to get the path to the Ballerina installation directory");
+            }
+        }
+        return layout;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Provides the directory of the installed distributions, creating it if it does not exist.
+     *
+     * @return distributions directory
+     */
+    public Path getDistributionsPath() {
+        if (!distributionsCreated) {
+            distributionsCreated = createDirectory(distributions);
+        }
+        return distributions;
+    }
+
+    /**
+     * Provides the directory of the installed dependencies, creating it if it does not exist.
+     *
+     * @return dependencies directory
+     */
+    public Path getDependenciesPath() {
+        if (!dependenciesCreated) {
+            dependenciesCreated = createDirectory(dependencies);
+        }
+        return dependencies;
+    }
+
+    /**
+     * Provides the directory the update tool archive is extracted to during a tool update.
+     *
+     * @return tool unzip directory
+     */
+    public Path getToolUnzipPath() {
+        return toolUnzipDirectory;
+    }
+
+    /**
+     * Provides the ballerina home directory of the user.
+     *
+     * @return ballerina home directory
+     */
+    public Path getBallerinaHome() {
+        return ballerinaHome;
+    }
+
+    private static boolean createDirectory(Path directory) {
+        // A directory which cannot be created is attempted again on the next lookup
+        return Files.isDirectory(directory) || directory.toFile().mkdirs();
+    }
+}
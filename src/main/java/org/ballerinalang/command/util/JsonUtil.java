@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming JSON readers for the responses of the remote server. Values are picked while the response is being read,
+ * so the response is never buffered and the order of the fields does not matter.
+ */
+public class JsonUtil {
+    private static final String NAME = "name";
+    private static final String VERSION = "version";
+    private static final String TYPE = "type";
+    private static final String CHANNEL = "channel";
+    private static final String DEPENDENCIES = "dependencies";
+    private static final String SHA256 = "sha256";
+
+    private JsonUtil() {
+    }
+
+    /**
+     * Reads the distributions from a distribution list response. Any object inside an array which has a
+     * {@code version} is read as a distribution, and the name and the {@code sha256} of its first dependency as its
+     * dependency.
+     *
+     * @param inputStream response stream
+     * @return distributions in the order of the response
+     * @throws IOException if the response cannot be read
+     */
+    public static List<Distribution> parseDistributions(InputStream inputStream) throws IOException {
+        DistributionsHandler handler = new DistributionsHandler();
+        parse(inputStream, handler);
+        return handler.distributions;
+    }
+
+    /**
+     * Reads the first value of each of the given keys from a response. Parsing stops as soon as all the keys are
+     * found.
+     *
+     * @param inputStream response stream
+     * @param keys        keys to read
+     * @return values of the keys found in the response
+     * @throws IOException if the response cannot be read
+     */
+    public static Map<String, String> readValues(InputStream inputStream, String... keys) throws IOException {
+        ValuesHandler handler = new ValuesHandler(Arrays.asList(keys));
+        parse(inputStream, handler);
+        return handler.values;
+    }
+
+    private static void parse(InputStream inputStream, ContentHandler handler) throws IOException {
+        try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            new JSONParser().parse(reader, handler);
+        } catch (ParseException e) {
+            throw ErrorUtil.createCommandException("failed to parse the response from the remote server: " + e);
+        }
+    }
+
+    /**
+     * Builds distributions from the parser events while tracking only the current container path.
+     */
+    private static class DistributionsHandler extends DefaultContentHandler {
+        private final List<Distribution> distributions = new ArrayList<>();
+        private final Deque<Boolean> containers = new ArrayDeque<>();
+        private final Deque<String> keys = new ArrayDeque<>();
+        private Distribution current;
+        private int currentDepth;
+        private String currentField;
+        private int dependencyObjects;
+
+        @Override
+        public boolean startObject() {
+            boolean inArray = !containers.isEmpty() && containers.peek();
+            containers.push(false);
+            if (current == null && inArray) {
+                current = new Distribution();
+                currentDepth = containers.size();
+                dependencyObjects = 0;
+            } else if (current != null && DEPENDENCIES.equals(currentField) &&
+                    containers.size() == currentDepth + 2) {
+                dependencyObjects++;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            if (current != null && containers.size() == currentDepth) {
+                if (!current.getVersion().isEmpty()) {
+                    distributions.add(current);
+                }
+                current = null;
+            }
+            containers.pop();
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            containers.push(true);
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            containers.pop();
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            keys.push(key);
+            if (current != null && containers.size() == currentDepth) {
+                currentField = key;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            keys.pop();
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (current == null || value == null || keys.isEmpty()) {
+                return true;
+            }
+            String key = keys.peek();
+            if (containers.size() == currentDepth) {
+                switch (key) {
+                    case NAME:
+                        current.setName(value.toString());
+                        break;
+                    case VERSION:
+                        current.setVersion(value.toString());
+                        break;
+                    case TYPE:
+                        current.setType(value.toString());
+                        break;
+                    case CHANNEL:
+                        current.setChannel(value.toString());
+                        break;
+                    case SHA256:
+                        current.setSha256(value.toString());
+                        break;
+                    default:
+                        break;
+                }
+            } else if (DEPENDENCIES.equals(currentField) && (NAME.equals(key) || DEPENDENCIES.equals(key))
+                    && current.getDependency().isEmpty()) {
+                // Dependencies are either objects with a name or plain names
+                current.setDependency(value.toString());
+            } else if (DEPENDENCIES.equals(currentField) && SHA256.equals(key) && dependencyObjects == 1
+                    && containers.size() == currentDepth + 2) {
+                current.setDependencySha256(value.toString());
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Collects the first value of each requested key.
+     */
+    private static class ValuesHandler extends DefaultContentHandler {
+        private final List<String> requiredKeys;
+        private final Map<String, String> values = new HashMap<>();
+        private String key;
+
+        private ValuesHandler(List<String> requiredKeys) {
+            this.requiredKeys = requiredKeys;
+        }
+
+        @Override
+        public boolean startObject() {
+            // Values nested in the value of a key do not belong to the key
+            this.key = null;
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            this.key = null;
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            this.key = key;
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            this.key = null;
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (key != null && value != null && requiredKeys.contains(key) && !values.containsKey(key)) {
+                values.put(key, value.toString());
+            }
+            return values.size() < requiredKeys.size();
+        }
+    }
+
+    /**
+     * Content handler which accepts every event.
+     */
+    private abstract static class DefaultContentHandler implements ContentHandler {
+        @Override
+        public void startJSON() {
+        }
+
+        @Override
+        public void endJSON() {
+        }
+
+        @Override
+        public boolean startObject() {
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import com.moandjiezana.toml.Toml;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Snapshot of the network settings read from the Settings.toml file in the ballerina home directory and the
+ * environment.
+ *
+ * The snapshot is shared by every remote call of the update tool. The file is parsed again only when its
+ * modification time or size changes.
+ */
+public class NetworkSettings {
+    private static final String SETTINGS_FILE = "Settings.toml";
+    private static final String PROXY = "proxy";
+    private static final String HOST = "host";
+    private static final String PORT = "port";
+    private static final String USER = "user";
+    private static final String PASSWORD = "password";
+    private static final String ENV_TRUSTSTORE_PATH = "BALLERINA_CA_BUNDLE";
+    private static final String ENV_TRUSTSTORE_PASSWORD = "BALLERINA_CA_PASSWORD";
+    private static final String ENV_CERT_PATH = "BALLERINA_CA_CERT";
+    private static final int MAX_PORT = 65535;
+
+    private static NetworkSettings settings;
+
+    private final File settingsFile;
+    private final long lastModified;
+    private final long length;
+    private final boolean proxyDefined;
+    private final Map<String, Object> proxyConfigs;
+    private final Proxy proxy;
+    private final String proxyUser;
+    private final String proxyPassword;
+    private final String trustStorePath;
+    private final String trustStorePassword;
+    private final String certPath;
+
+    private NetworkSettings(File settingsFile) {
+        this.settingsFile = settingsFile;
+        this.lastModified = settingsFile.lastModified();
+        this.length = settingsFile.length();
+        Map<String, Object> proxyTable = null;
+        if (settingsFile.exists()) {
+            Toml toml = new Toml().read(settingsFile);
+            if (toml.contains(PROXY)) {
+                proxyTable = toml.getTable(PROXY).toMap();
+            }
+        }
+        this.proxyDefined = proxyTable != null;
+        this.proxyConfigs = proxyTable == null ? Collections.emptyMap() : Collections.unmodifiableMap(proxyTable);
+        this.proxy = createProxy(getString(proxyConfigs, HOST), getString(proxyConfigs, PORT));
+        this.proxyUser = getString(proxyConfigs, USER);
+        this.proxyPassword = getString(proxyConfigs, PASSWORD);
+        this.trustStorePath = System.getenv(ENV_TRUSTSTORE_PATH);
+        this.trustStorePassword = System.getenv(ENV_TRUSTSTORE_PASSWORD);
+        this.certPath = System.getenv(ENV_CERT_PATH);
+    }
+
+    /**
+     * Provides the network settings of the ballerina home directory.
+     *
+     * @return network settings
+     */
+    public static NetworkSettings getInstance() {
+        return getInstance(InstallationLayout.getInstance().getBallerinaHome().resolve(SETTINGS_FILE).toFile());
+    }
+
+    /**
+     * Provides the network settings read from the given settings file.
+     *
+     * @param settingsFile settings file which may not exist
+     * @return network settings
+     */
+    static synchronized NetworkSettings getInstance(File settingsFile) {
+        if (settings == null || !settings.isReadFrom(settingsFile)) {
+            settings = new NetworkSettings(settingsFile);
+        }
+        return settings;
+    }
+
+    private boolean isReadFrom(File file) {
+        return settingsFile.equals(file) && lastModified == file.lastModified() && length == file.length();
+    }
+
+    private static Proxy createProxy(String host, String port) {
+        if (host == null || host.isEmpty() || port == null) {
+            return null;
+        }
+        int portNumber;
+        try {
+            portNumber = Integer.parseInt(port);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (portNumber <= 0 || portNumber > MAX_PORT) {
+            return null;
+        }
+        return new Proxy(Proxy.Type.HTTP, InetSocketAddress.createUnresolved(host, portNumber));
+    }
+
+    private static String getString(Map<String, Object> table, String key) {
+        Object value = table.get(key);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Checks whether a proxy table is defined in the settings file.
+     *
+     * @return true if the proxy table is defined
+     */
+    public boolean isProxyDefined() {
+        return proxyDefined;
+    }
+
+    public Map<String, Object> getProxyConfigs() {
+        return proxyConfigs;
+    }
+
+    /**
+     * Provides the proxy to connect through.
+     *
+     * @return proxy or null if the proxy host or port is not valid
+     */
+    public Proxy getProxy() {
+        return proxy;
+    }
+
+    public String getProxyUser() {
+        return proxyUser;
+    }
+
+    public String getProxyPassword() {
+        return proxyPassword;
+    }
+
+    public String getTrustStorePath() {
+        return trustStorePath;
+    }
+
+    public String getTrustStorePassword() {
+        return trustStorePassword;
+    }
+
+    public String getCertPath() {
+        return certPath;
+    }
+}
@@ -16,7 +16,6 @@
 
 package org.ballerinalang.command.util;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
@@ -25,11 +24,10 @@ import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.Locale;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility functions used by tools.
@@ -40,8 +38,10 @@ public class OSUtils {
     public static final String BALLERINA_HOME_DIR = ".ballerina";
     private static final String BALLERINA_CONFIG = "ballerina-version";
     private static final String INSTALLER_VERSION = "installer-version";
-    public static final String BALLERINA_LIST_JSON = "local-dists.json";
+    private static final String DISTRIBUTIONS_CACHE = "distributions-cache.json";
     private static final String UPDATE_NOTICE = "command-notice";
+    private static final String PENDING_UPDATE_NOTICE = "update-notice";
+    private static final String TOOL_DAEMON = "tool-daemon";
     private static final String BIR_CACHE = "bir_cache";
     private static final String JAR_CACHE = "jar_cache";
     private static final String REPOSITORIES = "repositories";
@@ -107,7 +107,11 @@ public class OSUtils {
      * @return path to the ballerina home directory
      */
     public static String getBallerinaHomePath() {
-        return getUserHome() + File.separator + BALLERINA_HOME_DIR;
+        return InstallationLayout.getInstance().getBallerinaHome().toString();
+    }
+
+    private static Path resolveBallerinaHome(String fileName) {
+        return InstallationLayout.getInstance().getBallerinaHome().resolve(fileName);
     }
 
     /**
@@ -152,8 +156,13 @@ public class OSUtils {
         return installerVersionfile.getPath();
     }
 
-    public static String getBallerinaDistListFilePath() {
-        return getUserHome() + File.separator + BALLERINA_HOME_DIR + File.separator + BALLERINA_LIST_JSON;
+    /**
+     * Provide the path of the cached distribution index.
+     *
+     * @return path to the file
+     */
+    public static String getDistributionsCachePath() {
+        return resolveBallerinaHome(DISTRIBUTIONS_CACHE).toString();
     }
 
     /**
@@ -180,35 +189,45 @@ public class OSUtils {
      * @return
      */
     public static String getUpdateNoticePath() {
-        return getUserHome() + File.separator + BALLERINA_HOME_DIR + File.separator + UPDATE_NOTICE;
+        return resolveBallerinaHome(UPDATE_NOTICE).toString();
+    }
+
+    /**
+     * Provide the path of the update notice found by a background check, which the launcher prints on the next
+     * build.
+     *
+     * @return path to the file
+     */
+    public static String getPendingUpdateNoticePath() {
+        return resolveBallerinaHome(PENDING_UPDATE_NOTICE).toString();
     }
 
     /**
-     * Check file and specify notice needs to be shown.
+     * Provide the path of the file which tells the launcher how to reach the running update tool daemon.
+     *
+     * @return path to the file
+     */
+    public static String getDaemonFilePath() {
+        return resolveBallerinaHome(TOOL_DAEMON).toString();
+    }
+
+    /**
+     * Check file and specify notice needs to be shown. The notice is checked once the file is a day old, which is
+     * the same rule the launcher uses to start the check in the background.
      *
      * @return needs to be shown
-     * @throws IOException occurs when reading files
+     * @throws IOException occurs when writing files
      */
     static boolean updateNotice() throws IOException {
-        boolean showNotice;
-
-        LocalDate today = LocalDate.now();
         File file = new File(getUpdateNoticePath());
-        if (!file.exists()) {
+        boolean showNotice = !file.exists()
+                || System.currentTimeMillis() - file.lastModified() >= TimeUnit.DAYS.toMillis(1);
+        if (showNotice) {
             file.getParentFile().mkdirs();
-            file.createNewFile();
-            showNotice = true;
-        } else {
-            try (BufferedReader br = Files.newBufferedReader(Paths.get(file.getPath()))) {
-                LocalDate lastUpdatedDate = LocalDate.parse(br.lines().collect(Collectors.toList()).get(0));
-                showNotice = today.minusDays(1).isAfter(lastUpdatedDate);
+            try (PrintWriter writer = new PrintWriter(file.getPath(), "UTF-8")) {
+                writer.println(LocalDate.now().toString());
             }
         }
-        if (showNotice) {
-            PrintWriter writer = new PrintWriter(file.getPath(), "UTF-8");
-            writer.println(today.toString());
-            writer.close();
-        }
         return showNotice;
     }
 
@@ -219,8 +238,7 @@ public class OSUtils {
      * @throws IOException could occur accessing the file
      */
     public static void clearBirCacheLocation(PrintStream outStream) throws IOException {
-        deleteDirectory(new File(getUserHome() + File.separator
-                + BALLERINA_HOME_DIR + File.separator + BIR_CACHE), outStream);
+        deleteDirectory(resolveBallerinaHome(BIR_CACHE).toFile(), outStream);
     }
 
     /**
@@ -230,8 +248,7 @@ public class OSUtils {
      * @throws IOException could occur accessing the file
      */
     public static void clearJarCacheLocation(PrintStream outStream) throws IOException {
-        deleteDirectory(new File(getUserHome() + File.separator
-                + BALLERINA_HOME_DIR + File.separator + JAR_CACHE), outStream);
+        deleteDirectory(resolveBallerinaHome(JAR_CACHE).toFile(), outStream);
     }
 
     /**
@@ -350,11 +367,10 @@ public class OSUtils {
      * @param version distribution version
      */
     public static void deleteCaches(String version, PrintStream outStream) throws IOException {
-        Path centralCache = Paths.get(getUserHome(),
-                BALLERINA_HOME_DIR, REPOSITORIES, CENTRAL_CACHE_ROOT, CACHE + "-" + version);
+        Path centralCache = resolveBallerinaHome(REPOSITORIES).resolve(CENTRAL_CACHE_ROOT)
+                .resolve(CACHE + "-" + version);
 
-        Path localCache = Paths.get(getUserHome(),
-                BALLERINA_HOME_DIR, REPOSITORIES, LOCAL_CACHE_ROOT, CACHE + "-" + version);
+        Path localCache = resolveBallerinaHome(REPOSITORIES).resolve(LOCAL_CACHE_ROOT).resolve(CACHE + "-" + version);
         deleteDirectory(centralCache.toFile(), outStream);
         deleteDirectory(localCache.toFile(), outStream);
     }
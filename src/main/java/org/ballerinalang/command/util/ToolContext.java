@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Versions the update tool runs with, resolved once per invocation.
+ *
+ * Resolving the active Ballerina version reads and may rewrite the version files in the ballerina home directory,
+ * hence it is done on first use and kept until the active version is changed. The installer version is only checked
+ * on the first resolution of an invocation, since it does not change while a command runs.
+ */
+public class ToolContext {
+    private static final ToolContext INSTANCE = new ToolContext();
+
+    private String ballerinaVersion;
+    private String installerVersionFilePath;
+    private String toolVersion;
+    private final Map<String, String> userAgents = new HashMap<>();
+    private Path workingDirectory;
+
+    private ToolContext() {
+    }
+
+    public static ToolContext getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Provides the active Ballerina version.
+     *
+     * @return active Ballerina version
+     */
+    public synchronized String getBallerinaVersion() {
+        if (ballerinaVersion == null) {
+            if (installerVersionFilePath == null) {
+                installerVersionFilePath = ToolUtil.checkInstallerVersion();
+            }
+            String version = ToolUtil.resolveCurrentBallerinaVersion(installerVersionFilePath);
+            // Resolving may rewrite the version files, which invalidates the context, hence set afterwards
+            ballerinaVersion = version;
+        }
+        return ballerinaVersion;
+    }
+
+    /**
+     * Provides the version of the update tool.
+     *
+     * @return update tool version
+     */
+    public synchronized String getToolVersion() {
+        if (toolVersion == null) {
+            toolVersion = ToolUtil.readToolsVersion();
+        }
+        return toolVersion;
+    }
+
+    /**
+     * Provides the user agent of the requests made with the active Ballerina version.
+     *
+     * @param distributionType distribution type
+     * @return user agent
+     */
+    public synchronized String getUserAgent(String distributionType) {
+        // Resolved first, since resolving may rewrite the version files, which clears the user agents
+        String version = getBallerinaVersion();
+        String userAgent = userAgents.get(distributionType);
+        if (userAgent == null) {
+            userAgent = OSUtils.getUserAgent(version, getToolVersion(), distributionType);
+            userAgents.put(distributionType, userAgent);
+        }
+        return userAgent;
+    }
+
+    /**
+     * Sets the working directory of the invocation, which differs from the one of the process when the command is
+     * forwarded to the update tool daemon.
+     *
+     * @param workingDirectory absolute working directory, or null to use the one of the process
+     */
+    public synchronized void setWorkingDirectory(Path workingDirectory) {
+        this.workingDirectory = workingDirectory;
+    }
+
+    /**
+     * Resolves a path given in the command line against the working directory of the invocation.
+     *
+     * @param path path given in the command line
+     * @return resolved path
+     */
+    public synchronized Path resolvePath(String path) {
+        return workingDirectory == null ? Paths.get(path) : workingDirectory.resolve(path);
+    }
+
+    /**
+     * Discards the active Ballerina version so that it is resolved again on the next use.
+     */
+    public synchronized void invalidate() {
+        ballerinaVersion = null;
+        userAgents.clear();
+    }
+
+    /**
+     * Discards what was resolved for the previous invocation, including the installer version check, so that a
+     * long running process resolves it again for the next invocation.
+     */
+    public synchronized void reset() {
+        invalidate();
+        installerVersionFilePath = null;
+    }
+}
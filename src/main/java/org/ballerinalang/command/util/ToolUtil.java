@@ -16,20 +16,16 @@
 
 package org.ballerinalang.command.util;
 
-import me.tongfei.progressbar.ProgressBar;
-import me.tongfei.progressbar.ProgressBarStyle;
 import org.ballerinalang.command.Main;
-
-import com.moandjiezana.toml.Toml;
+import org.ballerinalang.command.api.DownloadListener;
+import org.ballerinalang.command.exceptions.CommandException;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManagerFactory;
-import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -37,16 +33,15 @@ import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.net.Authenticator;
 import java.net.HttpURLConnection;
-import java.net.InetSocketAddress;
 import java.net.PasswordAuthentication;
-import java.net.Proxy;
-import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -55,16 +50,21 @@ import java.security.SecureRandom;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 /**
  * Ballerina tool utilities.
@@ -78,8 +78,10 @@ public class ToolUtil {
     private static final String BALLERINA_1_X_VERSIONS = "1.0.";
     private static final String CONNECTION_ERROR_MESSAGE = "connection to the remote server failed";
     private static final String PROXY_ERROR_MESSAGE = "connection to the remote server through proxy server failed";
-    private static final String BALLERINA_SETTINGS_FILE = "Settings.toml";
-    private static final String PROXY = "proxy";
+    // Request headers of the archives the remote server redirects to
+    private static final Map<String, String> BINARY_REQUEST_PROPERTIES =
+            Collections.singletonMap("content-type", "binary/data");
+    private static final long DOWNLOAD_STOP_TIMEOUT = 30;
     public static final boolean BALLERINA_STAGING_UPDATE = Boolean.parseBoolean(
             System.getenv("BALLERINA_STAGING_UPDATE"));
     public static final boolean BALLERINA_DEV_UPDATE = Boolean.parseBoolean(
@@ -89,16 +91,18 @@ public class ToolUtil {
             System.getenv("TEST_MODE_ACTIVE"));
     public static final String DEFAULT_BALLERINA_VERSION = "2201.0.0";
 
-    private static final String ENV_TRUSTSTORE_PATH = "BALLERINA_CA_BUNDLE";
-    private static final String ENV_TRUSTSTORE_PASSWORD = "BALLERINA_CA_PASSWORD";
-    private static final String ENV_CERT_PATH = "BALLERINA_CA_CERT";
     private static final String CA_CERTS_DEFAULT_PATH = System.getProperty("java.home") + "/lib/security/cacerts";
     private static final String CA_CERTS_DEFAULT_PASSWORD = "changeit";
 
-    private static final String trustStorePath = System.getenv(ENV_TRUSTSTORE_PATH);
-    private static final String trustStorePassword = System.getenv(ENV_TRUSTSTORE_PASSWORD);
-    private static final String singleCertPath = System.getenv(ENV_CERT_PATH);
 
+    private static final String DISTRIBUTIONS_CACHE_TTL = System.getenv("BALLERINA_DIST_CACHE_TTL");
+    private static final long DEFAULT_DISTRIBUTIONS_CACHE_TTL = TimeUnit.HOURS.toMillis(1);
+
+    private static DistributionIndex distributionIndex;
+    private static boolean distributionIndexFresh;
+    private static boolean distributionIndexChecked;
+    private static long distributionIndexFetchedTime;
+    private static SSLSocketFactory customSSLSocketFactory;
 
     /**
      * Provides used Ballerina version.
@@ -106,6 +110,16 @@ public class ToolUtil {
      * @return Used Ballerina version
      */
     public static String getCurrentBallerinaVersion() {
+        return ToolContext.getInstance().getBallerinaVersion();
+    }
+
+    /**
+     * Updates the version files if the installation has changed since they were written, which sets the installed
+     * distribution as the used one.
+     *
+     * @return path of the installer version file of the user
+     */
+    static String checkInstallerVersion() {
         try {
             String installerVersionFilePath = OSUtils.getInstallerVersionFilePath();
             if (new File(installerVersionFilePath).exists()) {
@@ -115,6 +129,20 @@ public class ToolUtil {
                     setInstallerVersion(installerVersionFilePath);
                 }
             }
+            return installerVersionFilePath;
+        } catch (IOException e) {
+            throw ErrorUtil.createCommandException("current Ballerina version not found: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resolves the used Ballerina version from the version files.
+     *
+     * @param installerVersionFilePath path of the installer version file of the user, checked beforehand
+     * @return Used Ballerina version
+     */
+    static String resolveCurrentBallerinaVersion(String installerVersionFilePath) {
+        try {
             String ballerinaVersionFilePath = OSUtils.getBallerinaVersionFilePath();
             if (!new File(ballerinaVersionFilePath).exists()) {
                 String defaultBallerinaVersion = DEFAULT_BALLERINA_VERSION;
@@ -133,8 +161,20 @@ public class ToolUtil {
 
     /**
      * Sets custom SSL context for update tool.
+     *
+     * The truststore and the SSL context are built once per process, so that the connections share the same TLS
+     * session cache instead of loading the truststore and negotiating a new session each time.
+     *
+     * @return socket factory of the custom SSL context
      */
-    public static void setCustomSSLContext(PrintStream printStream) throws IOException {
+    public static synchronized SSLSocketFactory setCustomSSLContext(PrintStream printStream) throws IOException {
+        if (customSSLSocketFactory != null) {
+            return customSSLSocketFactory;
+        }
+        NetworkSettings settings = NetworkSettings.getInstance();
+        String trustStorePath = settings.getTrustStorePath();
+        String trustStorePassword = settings.getTrustStorePassword();
+        String singleCertPath = settings.getCertPath();
         // Load custom truststore if provided, otherwise use the default truststore
         try {
             KeyStore truststore = KeyStore.getInstance(KeyStore.getDefaultType());
@@ -164,6 +204,8 @@ public class ToolUtil {
             SSLContext sslContext = SSLContext.getInstance("TLS");
             sslContext.init(null, trustManagerFactory.getTrustManagers(), new SecureRandom());
             SSLContext.setDefault(sslContext);
+            customSSLSocketFactory = sslContext.getSocketFactory();
+            return customSSLSocketFactory;
         } catch (CertificateException | KeyStoreException | IOException | NoSuchAlgorithmException |
                  KeyManagementException e) {
             printStream.println("Error occurred while loading the custom truststore: " + e.getMessage());
@@ -213,6 +255,10 @@ public class ToolUtil {
      * @return Used Ballerina tools version.
      */
     public static String getCurrentToolsVersion() {
+        return ToolContext.getInstance().getToolVersion();
+    }
+
+    static String readToolsVersion() {
         String version;
         try (InputStream inputStream = Main.class.getResourceAsStream("/META-INF/tool.properties")) {
             Properties properties = new Properties();
@@ -250,6 +296,7 @@ public class ToolUtil {
         PrintWriter writer = new PrintWriter(path, "UTF-8");
         writer.println(ToolUtil.getType(version) + "-" + version);
         writer.close();
+        ToolContext.getInstance().invalidate();
     }
 
     static void setInstallerVersion(String path) throws IOException {
@@ -274,26 +321,25 @@ public class ToolUtil {
         return dependencyLocation.exists();
     }
 
-    public static HttpsURLConnection getServerUrlWithProxyAuthentication(URL serverURL, PrintStream printStream) throws IOException {
-        if (checkProxyConfigsDefinition()) {
-            setCustomSSLContext(printStream);
-
-            Map<String, Object> proxyConfigs = getProxyConfigs();
-            String proxyHost = proxyConfigs.containsKey("host") ? proxyConfigs.get("host").toString() : null;
-            String proxyPort = proxyConfigs.containsKey("port") ? proxyConfigs.get("port").toString() : null;
-            String proxyUser = proxyConfigs.containsKey("user") ? proxyConfigs.get("user").toString() : null;
-            String proxyPassword = proxyConfigs.containsKey("password") ? proxyConfigs.get("password").toString() : null;
-
-            if (proxyHost != null && proxyPort != null && !"".equals(proxyHost) && Integer.parseInt(proxyPort) > 0 &&
-                    Integer.parseInt(proxyPort) < 65536) {
-                setProxyAuthentication(proxyUser, proxyPassword);
-                Proxy proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxyHost, Integer.parseInt(proxyPort)));
-                return (HttpsURLConnection) serverURL.openConnection(proxy);
+    public static HttpURLConnection getServerUrlWithProxyAuthentication(URL serverURL, PrintStream printStream) throws IOException {
+        NetworkSettings settings = NetworkSettings.getInstance();
+        if (settings.isProxyDefined()) {
+            SSLSocketFactory sslSocketFactory = setCustomSSLContext(printStream);
+
+            HttpURLConnection conn;
+            if (settings.getProxy() != null) {
+                setProxyAuthentication(settings.getProxyUser(), settings.getProxyPassword());
+                conn = (HttpURLConnection) serverURL.openConnection(settings.getProxy());
             } else {
-                return (HttpsURLConnection) serverURL.openConnection();
+                conn = (HttpURLConnection) serverURL.openConnection();
+            }
+            // The same factory is set on every connection so that they are pooled together and resume TLS sessions
+            if (conn instanceof HttpsURLConnection) {
+                ((HttpsURLConnection) conn).setSSLSocketFactory(sslSocketFactory);
             }
+            return conn;
         } else {
-            return (HttpsURLConnection) serverURL.openConnection();
+            return (HttpURLConnection) serverURL.openConnection();
         }
     }
 
@@ -311,113 +357,220 @@ public class ToolUtil {
     }
 
     public static Map<String, Object> getProxyConfigs () {
-        File settingsFile = new File(OSUtils.getBallerinaHomePath() + File.separator +
-                BALLERINA_SETTINGS_FILE );
-        Toml toml = new Toml().read(settingsFile);
-        return toml.getTable(PROXY).toMap();
+        return NetworkSettings.getInstance().getProxyConfigs();
     }
 
     private static boolean checkProxyConfigsDefinition() {
-        File settingsFile = new File(OSUtils.getBallerinaHomePath() + File.separator +
-                BALLERINA_SETTINGS_FILE );
-        if (settingsFile.exists()) {
-            Toml toml = new Toml().read(settingsFile);
-            return toml.contains(PROXY);
-        }
-        return false;
+        return NetworkSettings.getInstance().isProxyDefined();
     }
 
+    /**
+     * Provides the distributions published in the remote server grouped by channel.
+     *
+     * @param printStream stream which messages should be printed
+     * @return channels with their distributions
+     */
     public static List<Channel> getDistributions(PrintStream printStream) {
-        HttpsURLConnection conn = null;
-        List<Channel> channels = new ArrayList<>();
-        List<Distribution> distributions = new ArrayList<>();
-        try {
-            URL url = new URL(getServerURL() + "/distributions");
-            conn = getServerUrlWithProxyAuthentication(url, printStream);
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("user-agent",
-                    OSUtils.getUserAgent(getCurrentBallerinaVersion(),
-                            getCurrentToolsVersion(), "jballerina"));
-            conn.setRequestProperty("Accept", "application/json");
-            if (conn.getResponseCode() != 200) {
-                conn.disconnect();
-                throw ErrorUtil.createCommandException(getServerRequestFailedErrorMessage(conn));
-            } else {
-                String json = convertStreamToString(conn.getInputStream());
-                Matcher matcher = Pattern.compile("\"version\":\"(.*?)\"").matcher(json);
-                while (matcher.find()) {
-                    distributions.add(new Distribution(matcher.group(1)));
-                }
-
-                matcher = Pattern.compile("\"type\":\"(.*?)\"").matcher(json);
-                int i = 0;
-                while (matcher.find()) {
-                    distributions.get(i++).setType(matcher.group(1));
-                }
+        return getDistributionIndex(printStream).getChannels();
+    }
 
-                matcher = Pattern.compile("\"channel\":\"(.*?)\"").matcher(json);
-                i = 0;
-                while (matcher.find()) {
-                    distributions.get(i++).setChannel(matcher.group(1));
-                }
+    /**
+     * Provides the index of the distributions published in the remote server. The index is loaded once and shared
+     * by all the commands and helpers of the invocation. A cached copy in the ballerina home directory is used as is
+     * while it is fresh, revalidated with the remote server once it is stale and used as a fallback when the remote
+     * server cannot be reached.
+     *
+     * @param printStream stream which messages should be printed
+     * @return distribution index
+     */
+    public static synchronized DistributionIndex getDistributionIndex(PrintStream printStream) {
+        if (distributionIndex == null) {
+            distributionIndex = loadDistributionIndex(printStream, false);
+        }
+        return distributionIndex;
+    }
 
-                matcher = Pattern.compile("\"name\":\"(.*?)\"").matcher(json);
-                int distIndex = 0;
-                int count = 0;
-                while (matcher.find()) {
-                    if (count++ % 2 == 0) {
-                        distributions.get(distIndex).setName(matcher.group(1));
-                    } else {
-                        distributions.get(distIndex).setDependency(matcher.group(1));
-                        distIndex++;
-                    }
-                }
+    /**
+     * Provides the index of the distributions published in the remote server, which contains the given distribution
+     * version if the remote server publishes it. An index used from the cache without asking the remote server is
+     * revalidated once per invocation when it does not contain the version, since the version may have been released
+     * after the index was cached.
+     *
+     * @param printStream stream which messages should be printed
+     * @param version     distribution version the index is expected to contain, or null
+     * @return distribution index
+     */
+    public static synchronized DistributionIndex getDistributionIndex(PrintStream printStream, String version) {
+        DistributionIndex index = getDistributionIndex(printStream);
+        if (version != null && !distributionIndexChecked && !index.contains(version)) {
+            distributionIndex = loadDistributionIndex(printStream, true);
+        }
+        return distributionIndex;
+    }
 
-                for (Distribution distribution : distributions) {
-                    Channel channel = null;
-                    try {
-                        channel = channels.stream().filter(e -> e.getName().equals(distribution.getChannel()))
-                                .findFirst().orElse(null);
-                    } catch (Exception e) {
-                        printStream.println(e.getMessage());
-                    }
+    /**
+     * Provides the distribution index if it is fresh without contacting the remote server.
+     *
+     * @return distribution index, or null if it is not cached or the cache has expired
+     */
+    private static synchronized DistributionIndex getFreshDistributionIndex() {
+        if (distributionIndex == null) {
+            DistributionIndexCache cache = DistributionIndexCache.read(Paths.get(OSUtils.getDistributionsCachePath()),
+                    getServerURL());
+            if (cache != null && cache.isFresh(getDistributionsCacheTtl())) {
+                distributionIndex = cache.getIndex();
+                distributionIndexFresh = true;
+                distributionIndexChecked = false;
+                distributionIndexFetchedTime = cache.getFetchedTime();
+            }
+        }
+        return distributionIndexFresh ? distributionIndex : null;
+    }
 
-                    if (channel == null) {
-                        channel = new Channel(distribution.getChannel());
-                        channels.add(0, channel);
-                    }
-                    channel.getDistributions().add(0, distribution);
-                }
+    /**
+     * Loads the distribution index from the cache while it is fresh, otherwise from the remote server.
+     *
+     * @param printStream stream which messages should be printed
+     * @param revalidate  whether to ask the remote server even if the cache is fresh
+     * @return distribution index
+     */
+    private static DistributionIndex loadDistributionIndex(PrintStream printStream, boolean revalidate) {
+        Path cachePath = Paths.get(OSUtils.getDistributionsCachePath());
+        DistributionIndexCache cache = DistributionIndexCache.read(cachePath, getServerURL());
+        if (!revalidate && cache != null && cache.isFresh(getDistributionsCacheTtl())) {
+            distributionIndexFresh = true;
+            distributionIndexChecked = false;
+            distributionIndexFetchedTime = cache.getFetchedTime();
+            return cache.getIndex();
+        }
+        // The remote server is asked at most once per invocation
+        distributionIndexChecked = true;
+        DistributionIndexCache latestCache;
+        try {
+            latestCache = fetchDistributions(printStream, cache);
+        } catch (IOException e) {
+            // Only a server which cannot be reached falls back to the cache, an error response is reported as is
+            if (cache == null) {
+                throw createConnectionException();
             }
+            printStream.println("Unable to reach the remote server. Using the distribution list cached on " +
+                    Instant.ofEpochMilli(cache.getFetchedTime()).atZone(ZoneId.systemDefault()).toLocalDate());
+            return cache.getIndex();
+        }
+        try {
+            latestCache.write(cachePath);
         } catch (IOException e) {
-            if (checkProxyConfigsDefinition()) {
-                throw ErrorUtil.createCommandException(PROXY_ERROR_MESSAGE);
-            } else {
-                throw ErrorUtil.createCommandException(CONNECTION_ERROR_MESSAGE);
+            // Caching is an optimization, hence the command continues with the fetched index
+        }
+        distributionIndexFresh = true;
+        distributionIndexFetchedTime = latestCache.getFetchedTime();
+        return latestCache.getIndex();
+    }
+
+    /**
+     * Discards the state kept from the previous command of a long-lived process, which other processes may have
+     * changed since. The distribution index is kept while it is fresh.
+     */
+    public static synchronized void resetInvocationState() {
+        if (!distributionIndexFresh ||
+                System.currentTimeMillis() - distributionIndexFetchedTime >= getDistributionsCacheTtl()) {
+            distributionIndex = null;
+            distributionIndexFresh = false;
+        }
+        distributionIndexChecked = false;
+        ToolContext.getInstance().reset();
+    }
+
+    private static long getDistributionsCacheTtl() {
+        if (DISTRIBUTIONS_CACHE_TTL != null) {
+            try {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(DISTRIBUTIONS_CACHE_TTL.trim()));
+            } catch (NumberFormatException e) {
+                // Falls back to the default TTL
             }
-        } finally {
-            if (conn != null) {
-                conn.disconnect();
+        }
+        return DEFAULT_DISTRIBUTIONS_CACHE_TTL;
+    }
+
+    private static DistributionIndexCache fetchDistributions(PrintStream printStream, DistributionIndexCache cache)
+            throws IOException {
+        HttpURLConnection conn = null;
+        try {
+            URL url = new URL(getServerURL() + "/distributions");
+            conn = HttpUtil.createGetRequest(url, ToolContext.getInstance().getUserAgent("jballerina"), printStream);
+            if (cache != null && cache.getETag() != null) {
+                conn.setRequestProperty("If-None-Match", cache.getETag());
+            }
+            if (cache != null && cache.getLastModified() != null) {
+                conn.setRequestProperty("If-Modified-Since", cache.getLastModified());
+            }
+            if (cache != null && HttpUtil.getResponseCode(conn) == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return cache.revalidate();
             }
+            if (HttpUtil.getResponseCode(conn) != 200) {
+                throw ErrorUtil.createCommandException(getServerRequestFailedErrorMessage(conn));
+            }
+            List<Channel> channels = groupByChannel(JsonUtil.parseDistributions(conn.getInputStream()));
+            return new DistributionIndexCache(new DistributionIndex(channels), getServerURL(),
+                    conn.getHeaderField("ETag"), conn.getHeaderField("Last-Modified"), System.currentTimeMillis());
+        } finally {
+            HttpUtil.release(conn);
+        }
+    }
+
+    private static CommandException createConnectionException() {
+        if (checkProxyConfigsDefinition()) {
+            return ErrorUtil.createCommandException(PROXY_ERROR_MESSAGE);
+        }
+        return ErrorUtil.createCommandException(CONNECTION_ERROR_MESSAGE);
+    }
+
+    /**
+     * Groups the distributions by channel. Channels and the distributions in them are listed in the reverse order of
+     * the response, which puts the latest channel first.
+     *
+     * @param distributions distributions in the order of the response
+     * @return channels with their distributions
+     */
+    private static List<Channel> groupByChannel(List<Distribution> distributions) {
+        Map<String, Channel> channelsByName = new LinkedHashMap<>();
+        for (Distribution distribution : distributions) {
+            channelsByName.computeIfAbsent(distribution.getChannel(), Channel::new).getDistributions()
+                    .add(distribution);
+        }
+        List<Channel> channels = new ArrayList<>(channelsByName.values());
+        Collections.reverse(channels);
+        for (Channel channel : channels) {
+            Collections.reverse(channel.getDistributions());
         }
         return channels;
     }
 
+    /**
+     * Provides the latest distribution of the given kind for a distribution version. It is resolved from the
+     * distribution index when the index is fresh, otherwise the remote server is asked.
+     *
+     * @param currentVersion distribution version
+     * @param type           kind of the latest version, such as patch or minor
+     * @param printStream    stream which messages should be printed
+     * @return latest version, or null if there is none
+     */
     public static String getLatest(String currentVersion, String type, PrintStream printStream) {
-        HttpsURLConnection conn = null;
+        DistributionIndex index = getFreshDistributionIndex();
+        String latestVersion = index == null ? null : index.getLatest(currentVersion, type);
+        return latestVersion != null ? latestVersion : fetchLatest(currentVersion, type, printStream);
+    }
+
+    private static String fetchLatest(String currentVersion, String type, PrintStream printStream) {
+        HttpURLConnection conn = null;
         try {
             URL url = new URL(getServerURL()
                     + "/distributions/latest?version=" + currentVersion + "&type=" + type);
-            conn = getServerUrlWithProxyAuthentication(url, printStream);
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("user-agent",
-                    OSUtils.getUserAgent(getCurrentBallerinaVersion(),
-                            getCurrentToolsVersion(), "jballerina"));
-            conn.setRequestProperty("Accept", "application/json");
-            if (conn.getResponseCode() == 200) {
-                return getValue(type, convertStreamToString(conn.getInputStream()));
+            conn = HttpUtil.createGetRequest(url, ToolContext.getInstance().getUserAgent("jballerina"), printStream);
+            if (HttpUtil.getResponseCode(conn) == 200) {
+                return JsonUtil.readValues(conn.getInputStream(), type).get(type);
             }
-            if (conn.getResponseCode() == 404) {
+            if (HttpUtil.getResponseCode(conn) == 404) {
                 return null;
             }
             throw ErrorUtil.createCommandException(getServerRequestFailedErrorMessage(conn));
@@ -428,46 +581,28 @@ public class ToolUtil {
                 throw ErrorUtil.createCommandException(CONNECTION_ERROR_MESSAGE);
             }
         } finally {
-            if (conn != null) {
-                conn.disconnect();
-            }
-        }
-    }
-
-    private static String getValue(String key, String json) {
-        Pattern pattern = Pattern.compile(String.format("\"%s\":\"(.*?)\"", key));
-        Matcher matcher = pattern.matcher(json);
-        if (matcher.find()) {
-            return matcher.group(1);
+            HttpUtil.release(conn);
         }
-        return null;
     }
 
     public static Tool getLatestToolVersion(PrintStream printStream) {
-        HttpsURLConnection conn = null;
+        HttpURLConnection conn = null;
         try {
             URL url = new URL(getServerURL() + "/versions/latest");
-            conn = getServerUrlWithProxyAuthentication(url, printStream);
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("user-agent", OSUtils.getUserAgent(getCurrentBallerinaVersion(),
-                    getCurrentToolsVersion(), "jballerina"));
-            conn.setRequestProperty("Accept", "application/json");
-            if (conn.getResponseCode() == 200) {
+            conn = HttpUtil.createGetRequest(url, ToolContext.getInstance().getUserAgent("jballerina"), printStream);
+            if (HttpUtil.getResponseCode(conn) == 200) {
+                Map<String, String> toolInfo = JsonUtil.readValues(conn.getInputStream(), "version",
+                        "compatibility");
                 Tool tool = new Tool();
-                String json = convertStreamToString(conn.getInputStream());
-                Matcher matcher = Pattern.compile("\"version\":\"(.*?)\"").matcher(json);
-                while (matcher.find()) {
-                    tool.setVersion(matcher.group(1));
+                if (toolInfo.containsKey("version")) {
+                    tool.setVersion(toolInfo.get("version"));
                 }
-
-                matcher = Pattern.compile("\"compatibility\":(true|false)").matcher(json);
-                while (matcher.find()) {
-                    tool.setCompatibility(matcher.group(1));
+                if (toolInfo.containsKey("compatibility")) {
+                    tool.setCompatibility(toolInfo.get("compatibility"));
                 }
-                conn.disconnect();
                 return tool;
             }
-            if (conn.getResponseCode() == 404) {
+            if (HttpUtil.getResponseCode(conn) == 404) {
                 return null;
             }
             throw ErrorUtil.createCommandException(getServerRequestFailedErrorMessage(conn));
@@ -478,49 +613,17 @@ public class ToolUtil {
                 throw ErrorUtil.createCommandException(CONNECTION_ERROR_MESSAGE);
             }
         } finally {
-            if (conn != null) {
-                conn.disconnect();
-            }
+            HttpUtil.release(conn);
         }
     }
 
-    private static String convertStreamToString(InputStream is) {
-
-        BufferedReader reader = new BufferedReader(new InputStreamReader(is));
-        StringBuilder sb = new StringBuilder();
-
-        String line;
-        try {
-            while ((line = reader.readLine()) != null) {
-                sb.append(line).append("\n");
-            }
-        } catch (IOException e) {
-            //TODO : do nothing
-        } finally {
-            try {
-                is.close();
-            } catch (IOException e) {
-                //TODO : do nothing
-            }
-        }
-        return sb.toString();
-    }
-
     /**
      * Provides path of the installed distributions.
      *
      * @return installed distributions path
      */
     public static String getDistributionsPath() {
-        try {
-            File distDirectory = new File(OSUtils.getInstallationPath() + File.separator + "distributions");
-            if(!distDirectory.exists()) {
-                distDirectory.mkdirs();
-            }
-            return distDirectory.getPath();
-        } catch (URISyntaxException e) {
-            throw ErrorUtil.createCommandException("failed to get the path of the distributions");
-        }
+        return InstallationLayout.getInstance().getDistributionsPath().toString();
     }
 
     /**
@@ -529,15 +632,7 @@ public class ToolUtil {
      * @return dependencies path
      */
     public static String getDependencyPath() {
-        try {
-            File depDirectory = new File(OSUtils.getInstallationPath() + File.separator + "dependencies");
-            if(!depDirectory.exists()) {
-                depDirectory.mkdirs();
-            }
-            return depDirectory.getPath();
-        } catch (URISyntaxException e) {
-            throw ErrorUtil.createCommandException("failed to get the path of the distributions");
-        }
+        return InstallationLayout.getInstance().getDependenciesPath().toString();
     }
 
     /**
@@ -546,12 +641,7 @@ public class ToolUtil {
      * @return temporary directory to unzip update tool zip
      */
     private static String getToolUnzipLocation() {
-        try {
-            return OSUtils.getInstallationPath() + File.separator + "ballerina-command-tmp";
-        } catch (URISyntaxException e) {
-            throw ErrorUtil.createCommandException(
-                    "failed to get a temporary directory to unzip the update tool zip to");
-        }
+        return InstallationLayout.getInstance().getToolUnzipPath().toString();
     }
 
     /**
@@ -561,19 +651,8 @@ public class ToolUtil {
      */
     public static void checkForUpdate(PrintStream printStream) {
         try {
-            String version = getCurrentBallerinaVersion();
             if (OSUtils.updateNotice()) {
-                String latestVersion = ToolUtil.getLatest(version, "patch", printStream);
-                // For 1.0.x releases we support through jballerina distribution
-                if (latestVersion == null || latestVersion.startsWith(BALLERINA_1_X_VERSIONS)) {
-                    return;
-                }
-                if (!latestVersion.equals(version)) {
-                    printStream.println("A new version of Ballerina is available: " + latestVersion);
-                    printStream.println("Use 'bal dist pull " + latestVersion + "' to " +
-                            "download and use the distribution");
-                    printStream.println();
-                }
+                printStream.print(getUpdateNotice(printStream));
             }
         } catch (Throwable e) {
             // If any exception occurs we are not letting users know as check for command is optional
@@ -581,44 +660,95 @@ public class ToolUtil {
         }
     }
 
+    /**
+     * Checks for an update in the background and leaves the notice for the launcher to print on the next build, so
+     * that the build does not wait for the remote server.
+     *
+     * @param printStream stream which messages should be printed
+     */
+    public static void checkForUpdateInBackground(PrintStream printStream) {
+        try {
+            if (OSUtils.updateNotice()) {
+                String notice = getUpdateNotice(printStream);
+                Path noticePath = Paths.get(OSUtils.getPendingUpdateNoticePath());
+                if (notice.isEmpty()) {
+                    Files.deleteIfExists(noticePath);
+                } else {
+                    // Written to a temporary file first so that the launcher never prints a partial notice
+                    Path tempFile = Files.createTempFile(noticePath.getParent(), noticePath.getFileName().toString(),
+                            ".tmp");
+                    Files.write(tempFile, notice.getBytes(StandardCharsets.UTF_8));
+                    Files.move(tempFile, noticePath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } catch (Throwable e) {
+            // If any exception occurs we are not letting users know as check for command is optional
+        }
+    }
+
+    private static String getUpdateNotice(PrintStream printStream) {
+        String version = getCurrentBallerinaVersion();
+        String latestVersion = ToolUtil.getLatest(version, "patch", printStream);
+        // For 1.0.x releases we support through jballerina distribution
+        if (latestVersion == null || latestVersion.startsWith(BALLERINA_1_X_VERSIONS)
+                || latestVersion.equals(version)) {
+            return "";
+        }
+        String lineSeparator = System.lineSeparator();
+        return "A new version of Ballerina is available: " + latestVersion + lineSeparator +
+                "Use 'bal dist pull " + latestVersion + "' to download and use the distribution" + lineSeparator +
+                lineSeparator;
+    }
+
     public static boolean downloadDistribution(PrintStream printStream, String distribution, String distributionType,
                                                String distributionVersion, boolean testMode) {
-        HttpsURLConnection conn = null;
+        return downloadDistribution(printStream, distribution, distributionType, distributionVersion, testMode, null);
+    }
+
+    /**
+     * Downloads and sets up the distribution and its dependency unless the distribution is available locally.
+     *
+     * @param printStream         stream which messages should be printed
+     * @param distribution        distribution version
+     * @param distributionType    distribution type
+     * @param distributionVersion distribution version
+     * @param testMode            whether the remote server should treat the download as a test
+     * @param listener            listener which receives the download progress or null
+     * @return true if the distribution is available locally
+     */
+    public static boolean downloadDistribution(PrintStream printStream, String distribution, String distributionType,
+                                               String distributionVersion, boolean testMode,
+                                               DownloadListener listener) {
+        HttpURLConnection conn = null;
         try {
             if (!ToolUtil.checkDistributionAvailable(distribution)) {
                 URL url = new URL(ToolUtil.getServerURL() + "/distributions/" + distributionVersion);
-                conn = getServerUrlWithProxyAuthentication(url, printStream);
-                conn.setRequestMethod("GET");
-                conn.setRequestProperty("user-agent",
-                        OSUtils.getUserAgent(getCurrentBallerinaVersion(), ToolUtil.getCurrentToolsVersion(),
-                                distributionType));
-                conn.setRequestProperty("Accept", "application/json");
+                Map<String, String> requestProperties = HttpUtil.getGetRequestProperties(
+                        ToolContext.getInstance().getUserAgent(distributionType));
                 if (testMode || TEST_MODE) {
-                    conn.setRequestProperty("testMode", "true");
+                    requestProperties.put("testMode", "true");
                 }
-                if (conn.getResponseCode() == 302) {
-                    printStream.println("Fetching the '" + distribution + "' distribution from the remote server...");
-                    String newUrl = conn.getHeaderField("Location");
-                    HttpsURLConnection redirectedConn = getServerUrlWithProxyAuthentication(new URL(newUrl), printStream);
-                    redirectedConn.setRequestProperty("content-type", "binary/data");
-                    ToolUtil.downloadDistributionZip(printStream, redirectedConn, distribution);
-                    String dependencyForDistribution = ToolUtil.getDependency(printStream, distribution,
-                            distributionType, distributionVersion);
-                    if (!ToolUtil.checkDependencyAvailable(dependencyForDistribution)) {
-                        downloadDependency(printStream, dependencyForDistribution, distributionType,
-                                distributionVersion);
+                conn = HttpUtil.createGetRequest(url, requestProperties, printStream);
+                if (HttpUtil.getResponseCode(conn) == 302 || HttpUtil.getResponseCode(conn) == 200) {
+                    HttpURLConnection distributionConn = conn;
+                    if (HttpUtil.getResponseCode(conn) == 302) {
+                        String newUrl = conn.getHeaderField("Location");
+                        requestProperties = BINARY_REQUEST_PROPERTIES;
+                        distributionConn = HttpUtil.openConnection(new URL(newUrl), requestProperties, printStream);
                     }
-                    setupDistribution(distribution, dependencyForDistribution);
-                    return false;
-                } else if (conn.getResponseCode() == 200) {
-                    printStream.println("Fetching the '" + distribution + "' distribution from the remote server...");
-                    ToolUtil.downloadDistributionZip(printStream, conn, distribution);
+                    // The dependency is known from the distribution index, hence it is fetched along with the
+                    // distribution instead of after it
                     String dependencyForDistribution = ToolUtil.getDependency(printStream, distribution,
                             distributionType, distributionVersion);
-                    if (!ToolUtil.checkDependencyAvailable(dependencyForDistribution)) {
-                        downloadDependency(printStream, dependencyForDistribution, distributionType,
-                                distributionVersion);
+                    boolean dependencyRequired = !ToolUtil.checkDependencyAvailable(dependencyForDistribution);
+                    printStream.println("Fetching the '" + distribution + "' distribution from the remote server...");
+                    if (dependencyRequired) {
+                        printStream.println("Fetching the dependencies for '" + distributionVersion +
+                                "' from the remote server...");
                     }
+                    downloadDistributionAndDependency(printStream, distributionConn, requestProperties,
+                            distribution, dependencyRequired ? dependencyForDistribution : null, distributionType,
+                            distributionVersion, listener);
                     setupDistribution(distribution, dependencyForDistribution);
                     return false;
                 } else {
@@ -635,31 +765,136 @@ public class ToolUtil {
                 throw ErrorUtil.createCommandException(CONNECTION_ERROR_MESSAGE);
             }
         } finally {
-            if (conn != null) {
-                conn.disconnect();
+            HttpUtil.release(conn);
+        }
+    }
+
+    /**
+     * Downloads and extracts the distribution and, if given, its dependency at the same time with a combined
+     * progress.
+     *
+     * @param printStream         stream which messages should be printed
+     * @param conn                connection to the distribution
+     * @param requestProperties   request headers the connection was created with
+     * @param distribution        distribution version
+     * @param dependency          dependency to download or null if it is available locally
+     * @param distributionType    distribution type
+     * @param distributionVersion distribution version
+     * @param listener            listener which receives the download progress or null
+     */
+    private static void downloadDistributionAndDependency(PrintStream printStream, HttpURLConnection conn,
+                                                          Map<String, String> requestProperties,
+                                                          String distribution, String dependency,
+                                                          String distributionType, String distributionVersion,
+                                                          DownloadListener listener) {
+        String task = dependency == null ? distribution : distribution + " and " + dependency;
+        ExecutorService executorService = null;
+        boolean completed = false;
+        try (DownloadProgress progress = new DownloadProgress("Downloading " + task, printStream, listener)) {
+            Future<?> dependencyDownload = null;
+            if (dependency != null) {
+                executorService = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "dependency-download");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                String dependencySha256 = getDependencySha256(printStream, distributionVersion);
+                dependencyDownload = executorService.submit(() -> downloadDependency(printStream, dependency,
+                        distributionType, distributionVersion, dependencySha256, progress));
+            }
+            downloadAndExtractDistribution(printStream, conn, requestProperties, distribution,
+                    getDistributionSha256(printStream, distributionVersion), progress);
+            if (dependencyDownload != null) {
+                dependencyDownload.get();
+            }
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ErrorUtil.createCommandException("interrupted while downloading '" + distribution + "'");
+        } catch (ExecutionException e) {
+            deleteStagingPath(getStagingPath(distribution));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw ErrorUtil.createCommandException("failed to download the dependency '" + dependency + "'");
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+                if (!completed) {
+                    stopDependencyDownload(executorService, dependency);
+                }
             }
         }
     }
 
-    private static void downloadDistributionZip(PrintStream printStream, HttpURLConnection conn,
-                                                String distribution) {
+    /**
+     * Waits for the dependency download to stop after the distribution download has failed, and deletes what it
+     * has extracted. The download stops at the next read once its thread is interrupted.
+     *
+     * @param executorService executor of the dependency download, which is shut down
+     * @param dependency      dependency being downloaded
+     */
+    private static void stopDependencyDownload(ExecutorService executorService, String dependency) {
+        try {
+            executorService.awaitTermination(DOWNLOAD_STOP_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        deleteStagingPath(getStagingPath(dependency));
+    }
+
+    /**
+     * Provides the SHA-256 checksum the distribution index publishes for the given distribution version.
+     *
+     * @param printStream         stream which messages should be printed
+     * @param distributionVersion distribution version
+     * @return hex encoded checksum or null if none is published
+     */
+    private static String getDistributionSha256(PrintStream printStream, String distributionVersion) {
+        Distribution distribution = getDistributionIndex(printStream, distributionVersion)
+                .getDistribution(distributionVersion);
+        return distribution == null || distribution.getSha256().isEmpty() ? null : distribution.getSha256();
+    }
+
+    /**
+     * Provides the SHA-256 checksum the distribution index publishes for the dependency of the given distribution
+     * version.
+     *
+     * @param printStream         stream which messages should be printed
+     * @param distributionVersion distribution version
+     * @return hex encoded checksum or null if none is published
+     */
+    private static String getDependencySha256(PrintStream printStream, String distributionVersion) {
+        Distribution distribution = getDistributionIndex(printStream, distributionVersion)
+                .getDistribution(distributionVersion);
+        return distribution == null || distribution.getDependencySha256().isEmpty() ? null
+                : distribution.getDependencySha256();
+    }
+
+    private static void downloadAndExtractDistribution(PrintStream printStream, HttpURLConnection conn,
+                                                       Map<String, String> requestProperties,
+                                                       String distribution, String sha256,
+                                                       DownloadProgress progress) {
         try {
             String zipFileLocation = getDistributionsPath() + File.separator + distribution + ".zip";
-            downloadFile(conn, zipFileLocation, distribution, printStream);
+            downloadAndExtract(conn, requestProperties, zipFileLocation, getStagingPath(distribution), ZipUtil.UNSPECIFIED_MODE,
+                    distribution, sha256, progress, printStream);
         } finally {
-            conn.disconnect();
+            HttpUtil.release(conn);
         }
     }
 
     public static void setupDistribution (String distribution, String dependency) {
         String distPath = getDistributionsPath();
-        String zipFileLocation = getDistributionsPath() + File.separator + distribution + ".zip";
+        Path stagingPath = getStagingPath(distribution);
         if (!ToolUtil.checkDependencyAvailable(dependency)) {
-            new File(zipFileLocation).delete();
+            deleteStagingPath(stagingPath);
             throw ErrorUtil.createCommandException("The required dependency '" + dependency +  "' is not available locally." +
                     " Please try reinstalling the distribution.");
         } else {
-            unzip(zipFileLocation, distPath);
+            moveStagedFiles(stagingPath, distPath);
+            // The active version falls back to the installed one when the selected distribution is missing
+            ToolContext.getInstance().invalidate();
             addExecutablePermissionToFile(new File(distPath + File.separator + ToolUtil.getType(distribution)
                     + "-" + distribution + File.separator + "bin"
                     + File.separator + OSUtils.getExecutableFileName(distribution)));
@@ -679,74 +914,31 @@ public class ToolUtil {
             if (launcherServer.exists()) {
                 addExecutablePermissionToFile(launcherServer);
             }
-
-            new File(zipFileLocation).delete();
         }
     }
 
     public static String getDependency(PrintStream printStream, String distribution, String distributionType,
                                        String distributionVersion) {
-        HttpsURLConnection conn = null;
-        String dependencyName = "";
-        try {
-            URL url = new URL(ToolUtil.getServerURL() + "/distributions");
-            conn = getServerUrlWithProxyAuthentication(url, printStream);
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("user-agent",
-                    OSUtils.getUserAgent(distributionVersion, ToolUtil.getCurrentToolsVersion(),
-                            distributionType));
-            conn.setRequestProperty("Accept", "application/json");
-            if (conn.getResponseCode() == 200) {
-                String response = convertStreamToString(conn.getInputStream());
-                String infoRegex = "\\{.*?\\]\\}";
-                Pattern infoPattern = Pattern.compile(infoRegex);
-                Matcher infoMatcher = infoPattern.matcher(response);
-                while (infoMatcher.find()) {
-                    String distInfo = infoMatcher.group();
-                    if (distInfo.contains(distributionVersion)) {
-                        String dependencyRegex = "\"(jdk.*?)\"";
-                        Pattern dependencyPattern = Pattern.compile(dependencyRegex);
-                        Matcher dependencyMatcher = dependencyPattern.matcher(distInfo);
-                        while (dependencyMatcher.find()) {
-                            dependencyName = dependencyMatcher.group(1);
-                        }
-                        break;
-                    }
-                }
-            }
-        } catch (IOException e) {
-            if (checkProxyConfigsDefinition()) {
-                throw ErrorUtil.createCommandException(PROXY_ERROR_MESSAGE);
-            } else {
-                throw ErrorUtil.createCommandException(CONNECTION_ERROR_MESSAGE);
-            }
-        } finally {
-            if (conn != null) {
-                conn.disconnect();
-            }
-        }
-        return dependencyName;
+        return getDistributionIndex(printStream, distributionVersion).getDependency(distributionVersion);
     }
 
     private static void downloadDependency(PrintStream printStream, String dependency, String distributionType,
-                                           String distributionVersion) {
+                                           String distributionVersion, String sha256, DownloadProgress progress) {
+        HttpURLConnection conn = null;
         try {
-            printStream.println("\nFetching the dependencies for '" + distributionVersion + "' from the remote server...");
             String encodedDependencyName = encodePlusCharacters(dependency);
             String url = ToolUtil.getServerURL() + "/dependencies/" + encodedDependencyName;
-            HttpsURLConnection conn = getServerUrlWithProxyAuthentication(new URL(url), printStream);
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("user-agent",
-                    OSUtils.getUserAgent(distributionVersion, ToolUtil.getCurrentToolsVersion(),
-                            distributionType));
-            conn.setRequestProperty("Accept", "application/json");
-            if (conn.getResponseCode() == 302) {
+            Map<String, String> requestProperties = HttpUtil.getGetRequestProperties(OSUtils.getUserAgent(
+                    distributionVersion, ToolUtil.getCurrentToolsVersion(), distributionType));
+            conn = HttpUtil.createGetRequest(new URL(url), requestProperties, printStream);
+            if (HttpUtil.getResponseCode(conn) == 302) {
                 String newUrl = conn.getHeaderField("Location");
-                HttpsURLConnection redirectedConn = getServerUrlWithProxyAuthentication(new URL(newUrl), printStream);
-                redirectedConn.setRequestProperty("content-type", "binary/data");
-                downloadAndSetupDependency(redirectedConn, printStream, dependency);
-            } else if (conn.getResponseCode() == 200) {
-                downloadAndSetupDependency(conn, printStream, dependency);
+                HttpURLConnection redirectedConn = HttpUtil.openConnection(new URL(newUrl),
+                        BINARY_REQUEST_PROPERTIES, printStream);
+                downloadAndSetupDependency(redirectedConn, BINARY_REQUEST_PROPERTIES, printStream, dependency,
+                        sha256, progress);
+            } else if (HttpUtil.getResponseCode(conn) == 200) {
+                downloadAndSetupDependency(conn, requestProperties, printStream, dependency, sha256, progress);
             } else {
                 throw ErrorUtil.createDependencyNotFoundException(dependency);
             }
@@ -756,42 +948,44 @@ public class ToolUtil {
             } else {
                 throw ErrorUtil.createCommandException(CONNECTION_ERROR_MESSAGE);
             }
+        } finally {
+            HttpUtil.release(conn);
         }
     }
 
-    private static void downloadAndSetupDependency(HttpURLConnection conn, PrintStream printStream, String dependency) {
-        File zipFile = null;
+    private static void downloadAndSetupDependency(HttpURLConnection conn, Map<String, String> requestProperties,
+                                                   PrintStream printStream, String dependency, String sha256,
+                                                   DownloadProgress progress) {
         String dependencyLocation = getDependencyPath();
         String zipFileLocation = dependencyLocation + File.separator + dependency + ".zip";
-        zipFile = Paths.get(zipFileLocation).toFile();
-        downloadFile(conn, zipFileLocation, dependency, printStream);
-        unzip(zipFileLocation, dependencyLocation);
-        addExecutablePermissionToDirectory(dependencyLocation + File.separator + dependency);
-        if (zipFile.exists()) {
-            zipFile.delete();
+        Path stagingPath = getStagingPath(dependency);
+        // Entries without a mode in the archive get the same permissions as 'chmod -R 755' used to give them
+        downloadAndExtract(conn, requestProperties, zipFileLocation, stagingPath, ZipUtil.EXECUTABLE_MODE, dependency,
+                sha256, progress, printStream);
+        moveStagedFiles(stagingPath, dependencyLocation);
+        if (OSUtils.isWindows()) {
+            addExecutablePermissionToDirectory(dependencyLocation + File.separator + dependency);
         }
     }
 
-    public static void removeUnusedDependencies(String distributionVersion, PrintStream printStream) {
-        String dependencyForDistribution = "";
-        String channelForDistribution = "";
+    /**
+     * Deletes the dependency of a removed distribution unless another local distribution depends on it.
+     *
+     * @param distributionVersion version of the removed distribution
+     * @param printStream         stream which messages should be printed
+     * @return deleted dependency or null if the dependency is kept
+     */
+    public static String removeUnusedDependencies(String distributionVersion, PrintStream printStream) {
+        DistributionIndex index = getDistributionIndex(printStream);
+        Distribution removedDistribution = index.getDistribution(distributionVersion);
+        String dependencyForDistribution = removedDistribution == null ? "" : removedDistribution.getDependency();
         List<String> distributionsWithDependency = new ArrayList<>();
-        List<Channel> channels = getDistributions(printStream);
-        for (Channel channel : channels) {
-            for (Distribution distribution : channel.getDistributions()) {
-                if (distribution.getVersion().equals(distributionVersion)) {
-                    dependencyForDistribution = distribution.getDependency();
-                    channelForDistribution = channel.getName();
-                    break;
-                }
-            }
-        }
         if (dependencyForDistribution.equals("")) {
             printStream.println("No dependency found for the given distribution version");
-            return;
+            return null;
         }
-        for (Channel channel : channels) {
-            if (channel.getName().equals(channelForDistribution)) {
+        for (Channel channel : index.getChannels()) {
+            if (channel.getName().equals(removedDistribution.getChannel())) {
                 for (Distribution distribution : channel.getDistributions()) {
                     if (distribution.getDependency().equals(dependencyForDistribution)) {
                         distributionsWithDependency.add(distribution.getVersion());
@@ -808,11 +1002,13 @@ public class ToolUtil {
             if (dependencyToDelete.exists()) {
                 try {
                     OSUtils.deleteFiles(dependencyToDelete.toPath());
+                    return dependencyForDistribution;
                 } catch (IOException e) {
                     printStream.println("Error occurred while deleting the dependency '" + dependencyForDistribution + "'");
                 }
             }
         }
+        return null;
     }
 
     private static List<String> getLocalDistributions() {
@@ -834,21 +1030,20 @@ public class ToolUtil {
     }
 
     public static void downloadTool(PrintStream printStream, String toolVersion) {
-        HttpsURLConnection conn = null;
+        HttpURLConnection conn = null;
         try {
             URL url = new URL(ToolUtil.getServerURL() + "/versions/" + toolVersion);
-            conn = getServerUrlWithProxyAuthentication(url, printStream);
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("user-agent", OSUtils.getUserAgent(getCurrentBallerinaVersion(),
-                    getCurrentToolsVersion(), "jballerina"));
-            conn.setRequestProperty("Accept", "application/json");
-            if (conn.getResponseCode() == 302) {
+            Map<String, String> requestProperties = HttpUtil.getGetRequestProperties(
+                    ToolContext.getInstance().getUserAgent("jballerina"));
+            conn = HttpUtil.createGetRequest(url, requestProperties, printStream);
+            if (HttpUtil.getResponseCode(conn) == 302) {
                 String newUrl = conn.getHeaderField("Location");
-                HttpsURLConnection redirectedConn = getServerUrlWithProxyAuthentication(new URL(newUrl), printStream);
-                redirectedConn.setRequestProperty("content-type", "binary/data");
-                downloadAndSetupTool(printStream, redirectedConn, "ballerina-command-" + toolVersion);
-            } else if (conn.getResponseCode() == 200) {
-                downloadAndSetupTool(printStream, conn, "ballerina-command-" + toolVersion);
+                HttpURLConnection redirectedConn = HttpUtil.openConnection(new URL(newUrl),
+                        BINARY_REQUEST_PROPERTIES, printStream);
+                downloadAndSetupTool(printStream, redirectedConn, BINARY_REQUEST_PROPERTIES,
+                        "ballerina-command-" + toolVersion);
+            } else if (HttpUtil.getResponseCode(conn) == 200) {
+                downloadAndSetupTool(printStream, conn, requestProperties, "ballerina-command-" + toolVersion);
             } else {
                 throw ErrorUtil.createCommandException("tool version '" + toolVersion + "' not found ");
             }
@@ -859,91 +1054,72 @@ public class ToolUtil {
                 throw ErrorUtil.createCommandException(CONNECTION_ERROR_MESSAGE);
             }
         } finally {
-            if (conn != null) {
-                conn.disconnect();
-            }
+            HttpUtil.release(conn);
         }
 
     }
 
     private static void downloadAndSetupTool(PrintStream printStream, HttpURLConnection conn,
-                                             String toolFileName) {
-        File tempUnzipDirectory = null;
-        File zipFile = null;
+                                             Map<String, String> requestProperties, String toolFileName) {
+        // The zip is spooled next to the unzip location since the launcher removes the unzip location after a
+        // failed update, which would discard a partial download
+        String toolUnzipLocation = getToolUnzipLocation();
+        String zipFileLocation = Paths.get(toolUnzipLocation).resolveSibling(toolFileName + ".zip").toString();
+        try (DownloadProgress progress = new DownloadProgress("Downloading " + toolFileName, printStream)) {
+            downloadAndExtract(conn, requestProperties, zipFileLocation, Paths.get(toolUnzipLocation),
+                    ZipUtil.UNSPECIFIED_MODE, toolFileName, null, progress, printStream);
+        }
+        copyScripts(toolUnzipLocation, toolFileName);
+    }
+
+    private static void downloadAndExtract(HttpURLConnection conn, Map<String, String> requestProperties,
+                                           String zipFileLocation, Path destination, int defaultMode,
+                                           String fileName, String sha256, DownloadProgress progress,
+                                           PrintStream printStream) {
         try {
-            String toolUnzipLocation = getToolUnzipLocation();
-            tempUnzipDirectory = Paths.get(toolUnzipLocation).toFile();
-            if (tempUnzipDirectory.exists()) {
-                tempUnzipDirectory.delete();
-            }
-            tempUnzipDirectory.mkdir();
-            String zipFileLocation = toolUnzipLocation + File.separator + toolFileName + ".zip";
-            zipFile = Paths.get(zipFileLocation).toFile();
-            downloadFile(conn, zipFileLocation, toolFileName, printStream);
-            unzip(zipFileLocation, toolUnzipLocation);
-            copyScripts(toolUnzipLocation, toolFileName);
-        } finally {
-            if (tempUnzipDirectory != null && tempUnzipDirectory.exists()) {
-                tempUnzipDirectory.delete();
-            }
-            if (zipFile != null && zipFile.exists()) {
-                zipFile.delete();
-            }
+            DownloadUtil.downloadAndExtract(conn, requestProperties, Paths.get(zipFileLocation), destination,
+                    defaultMode, fileName, sha256, progress, printStream);
+        } catch (IOException e) {
+            throw ErrorUtil.createCommandException("failed to download file " + fileName + " to " +
+                    destination + ".");
         }
     }
 
-    private static void downloadFile(HttpURLConnection conn, String zipFileLocation,
-                                     String fileName, PrintStream printStream) {
-        try (InputStream in = conn.getInputStream();
-             FileOutputStream out = new FileOutputStream(zipFileLocation)) {
-            byte[] b = new byte[1024];
-            int count;
-            int progress = 0;
-            long totalSizeInMB = conn.getContentLengthLong() / (1024 * 1024);
-
-            try (ProgressBar progressBar = new ProgressBar("Downloading " + fileName, totalSizeInMB,
-                    1000, printStream, ProgressBarStyle.ASCII, " MB", 1)) {
-                while ((count = in.read(b)) > 0) {
-                    out.write(b, 0, count);
-                    progress++;
-                    if (progress % 1024 == 0) {
-                        progressBar.step();
-                    }
+    /**
+     * Provides the directory an archive is extracted to before it is moved into place, so that a partially extracted
+     * distribution or dependency is never taken as available.
+     *
+     * @param name name of the distribution or dependency
+     * @return staging directory
+     */
+    private static Path getStagingPath(String name) {
+        return InstallationLayout.getInstance().getRoot().resolve(".staging-" + name);
+    }
+
+    private static void moveStagedFiles(Path stagingPath, String destDirectory) {
+        try (DirectoryStream<Path> stagedFiles = Files.newDirectoryStream(stagingPath)) {
+            for (Path stagedFile : stagedFiles) {
+                Path target = Paths.get(destDirectory).resolve(stagedFile.getFileName().toString());
+                if (Files.exists(target)) {
+                    OSUtils.deleteFiles(target);
                 }
+                Files.move(stagedFile, target);
             }
         } catch (IOException e) {
-            throw ErrorUtil.createCommandException("failed to download file " + fileName + " to " +
-                    zipFileLocation + ".");
+            throw ErrorUtil.createCommandException("failed to move the extracted files in '" + stagingPath +
+                    "' to '" + destDirectory + "'");
+        } finally {
+            deleteStagingPath(stagingPath);
         }
     }
 
-    private static void unzip(String zipFilePath, String destDirectory) {
-        File destDir = new File(destDirectory);
-        if (!destDir.exists()) {
-            destDir.mkdir();
-        }
-        try (ZipInputStream zipIn = new ZipInputStream(new FileInputStream(zipFilePath))) {
-            ZipEntry entry = zipIn.getNextEntry();
-            while (entry != null) {
-                String filePath = destDirectory + File.separator + entry.getName();
-                if (!entry.isDirectory()) {
-                    BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(filePath));
-                    byte[] bytesIn = new byte[1024];
-                    int read;
-                    while ((read = zipIn.read(bytesIn)) != -1) {
-                        bos.write(bytesIn, 0, read);
-                    }
-                    bos.close();
-                } else {
-                    File dir = new File(filePath);
-                    dir.mkdir();
-                }
-                zipIn.closeEntry();
-                entry = zipIn.getNextEntry();
+    private static void deleteStagingPath(Path stagingPath) {
+        try {
+            if (Files.exists(stagingPath)) {
+                OSUtils.deleteFiles(stagingPath);
             }
         } catch (IOException e) {
-            throw ErrorUtil.createCommandException("failed to unzip the zip file in '" + zipFilePath + "' to '" +
-                    destDirectory + "'");
+            // A leftover staging directory is replaced by the next download
         }
     }
 
@@ -1023,29 +1199,25 @@ public class ToolUtil {
      * Handle user permission to ballerina install location.
      */
     public static void handleInstallDirPermission() {
-        try {
-            String installationPath = OSUtils.getInstallationPath();
-            boolean isWritable = Files.isWritable(Paths.get(installationPath));
-            if (!isWritable) {
-                throw ErrorUtil.createCommandException("permission denied: you do not have write access to '" +
-                        installationPath + "'");
-            }
-        } catch (URISyntaxException e) {
-            throw ErrorUtil.createCommandException("failed to get the path to the Ballerina installation directory");
+        Path installationPath = InstallationLayout.getInstance().getRoot();
+        if (!Files.isWritable(installationPath)) {
+            throw ErrorUtil.createCommandException("permission denied: you do not have write access to '" +
+                    installationPath + "'");
         }
     }
 
     private static String getServerRequestFailedErrorMessage(HttpURLConnection conn) throws IOException {
         String responseMessage = conn.getResponseMessage();
-        return "server request failed: " + (responseMessage == null ? conn.getResponseCode() : responseMessage);
+        return "server request failed: " + (responseMessage == null ? HttpUtil.getResponseCode(conn) : responseMessage);
     }
 
     /**
-     * Provide server url based on the environment variable setting.
+     * Provides the URL of the remote server selected with the BALLERINA_STAGING_UPDATE and BALLERINA_DEV_UPDATE
+     * environment variables.
      *
-     * @return server url
+     * @return remote server URL
      */
-    private static String getServerURL() {
+    public static String getServerURL() {
         String url = PRODUCTION_URL;
         url = BALLERINA_STAGING_UPDATE ? STAGING_URL : url;
         url = BALLERINA_DEV_UPDATE ? DEV_URL : url;
@@ -1058,7 +1230,7 @@ public class ToolUtil {
      * @param version distribution version
      */
     public static String getType(String version) {
-        return version.split("\\.")[0].equals("1") ? "jballerina" : "ballerina";
+        return BallerinaVersion.of(version).getType();
     }
 
     /**
@@ -1068,7 +1240,7 @@ public class ToolUtil {
      */
     public static String getTypeName(String version) {
         char lastChar = version.charAt(version.length() - 1);
-        if (version.contains("1.")) {
+        if (getType(version).equals("jballerina")) {
             return "jballerina" + " version " + version;
         } else if(version.contains("slp")) {
             return " Preview " + lastChar;
@@ -1093,15 +1265,15 @@ public class ToolUtil {
         }
     }
 
+    /**
+     * Grants read and execute access to the given directory on Windows. On other platforms the permissions are
+     * applied by the extractor from the archive.
+     *
+     * @param filePath directory path
+     */
     private static void addExecutablePermissionToDirectory(String filePath) {
-        Process process;
         try {
-            if (OSUtils.isWindows()) {
-                process = Runtime.getRuntime().exec("icacls " + filePath + " /grant Everyone:(OI)(CI)RX /T");
-            }
-            else {
-                process = Runtime.getRuntime().exec("chmod -R 755 " + filePath);
-            }
+            Process process = Runtime.getRuntime().exec("icacls " + filePath + " /grant Everyone:(OI)(CI)RX /T");
             process.waitFor();
         } catch (InterruptedException | IOException e) {
             throw ErrorUtil.createCommandException("permission denied: you do not have write access to '" + filePath
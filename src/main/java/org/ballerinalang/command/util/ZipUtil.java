@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Extracts zip archives of distributions, dependencies and the update tool.
+ *
+ * On file systems supporting POSIX permissions, the mode recorded for each entry in the central directory of the
+ * archive is applied as the entry is extracted. Entries without a recorded mode get the default mode given by the
+ * caller, if any.
+ */
+public class ZipUtil {
+    /**
+     * Leaves the permissions of entries without a recorded mode to the umask.
+     */
+    public static final int UNSPECIFIED_MODE = -1;
+    public static final int EXECUTABLE_MODE = 0755;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PARALLEL_BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_CENTRAL_DIRECTORY_SIZE = 4 * 1024 * 1024;
+    private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int UNIX_HOST = 3;
+    private static final int OSX_HOST = 19;
+    private static final int PERMISSION_BITS = 0777;
+    // Files are always left writable and directories traversable by the owner, so that they can be removed later
+    private static final int OWNER_WRITE = 0200;
+    private static final int OWNER_EXECUTE = 0100;
+    private static final boolean POSIX_SUPPORTED =
+            FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+
+    private ZipUtil() {
+    }
+
+    /**
+     * Extracts a zip archive as it is read from the stream, so that an archive can be extracted while it is being
+     * downloaded. The central directory arrives last, hence the modes are applied once the entries are written.
+     *
+     * @param inputStream stream of the archive
+     * @param destination directory to extract to
+     * @param defaultMode mode of the entries without a recorded mode, or {@link #UNSPECIFIED_MODE}
+     * @throws IOException if the archive cannot be read or extracted
+     */
+    public static void extract(InputStream inputStream, Path destination, int defaultMode) throws IOException {
+        Files.createDirectories(destination);
+        TailInputStream tailIn = new TailInputStream(new BufferedInputStream(inputStream, BUFFER_SIZE),
+                MAX_CENTRAL_DIRECTORY_SIZE);
+        ZipInputStream zipIn = new ZipInputStream(tailIn);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        Map<String, Path> extracted = new LinkedHashMap<>();
+        ZipEntry entry = zipIn.getNextEntry();
+        if (entry == null) {
+            throw new IOException("the archive is empty or not a zip archive");
+        }
+        while (entry != null) {
+            Path path = resolveEntry(destination, entry);
+            if (entry.isDirectory()) {
+                Files.createDirectories(path);
+            } else {
+                Files.createDirectories(path.getParent());
+                try (OutputStream out = Files.newOutputStream(path)) {
+                    int read;
+                    while ((read = zipIn.read(buffer)) != -1) {
+                        out.write(buffer, 0, read);
+                    }
+                }
+            }
+            extracted.put(entry.getName(), path);
+            zipIn.closeEntry();
+            entry = zipIn.getNextEntry();
+        }
+
+        // What follows the last entry is the central directory
+        while (tailIn.read(buffer) != -1) {
+            // Draining the stream into the tail buffer
+        }
+        if (!POSIX_SUPPORTED) {
+            return;
+        }
+        Map<String, Integer> modes = readModes(tailIn.getTail());
+        List<Path> directories = new ArrayList<>();
+        for (Map.Entry<String, Path> extractedEntry : extracted.entrySet()) {
+            if (extractedEntry.getKey().endsWith("/")) {
+                directories.add(extractedEntry.getValue());
+            } else {
+                setPermissions(extractedEntry.getValue(), modes.get(extractedEntry.getKey()), defaultMode, false);
+            }
+        }
+        setDirectoryPermissions(directories, modes, destination, defaultMode);
+    }
+
+    /**
+     * Extracts the given zip archive. The entries are read through the central directory, the directory tree is
+     * created in one pass and the files are inflated concurrently on a pool sized to the available processors.
+     *
+     * @param zipFile     archive to extract
+     * @param destination directory to extract to
+     * @param defaultMode mode of the entries without a recorded mode, or {@link #UNSPECIFIED_MODE}
+     * @throws IOException if the archive cannot be read or extracted
+     */
+    public static void extract(Path zipFile, Path destination, int defaultMode) throws IOException {
+        Map<String, Integer> modes = POSIX_SUPPORTED ? readModes(zipFile) : Collections.emptyMap();
+        try (ZipFile zip = new ZipFile(zipFile.toFile())) {
+            List<ZipEntry> files = new ArrayList<>();
+            Set<Path> directories = new TreeSet<>();
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                Path path = resolveEntry(destination, entry);
+                if (entry.isDirectory()) {
+                    directories.add(path);
+                } else {
+                    directories.add(path.getParent());
+                    files.add(entry);
+                }
+            }
+            createDirectories(destination, directories);
+            // Larger entries are started first so that they do not end up as the tail of the extraction
+            files.sort(Comparator.comparingLong(ZipEntry::getSize).reversed());
+            extractFiles(zip, files, destination, modes, defaultMode);
+            if (POSIX_SUPPORTED) {
+                setDirectoryPermissions(new ArrayList<>(directories), modes, destination, defaultMode);
+            }
+        }
+    }
+
+    /**
+     * Creates the directories in sorted order, so that every parent is created before its children and each
+     * directory costs a single system call.
+     */
+    private static void createDirectories(Path destination, Set<Path> directories) throws IOException {
+        Files.createDirectories(destination);
+        for (Path directory : directories) {
+            try {
+                Files.createDirectory(directory);
+            } catch (FileAlreadyExistsException e) {
+                if (!Files.isDirectory(directory)) {
+                    throw e;
+                }
+            } catch (NoSuchFileException e) {
+                // The parent is an implicit directory outside the sorted set, such as a parent of the destination
+                Files.createDirectories(directory);
+            }
+        }
+    }
+
+    private static void extractFiles(ZipFile zip, List<ZipEntry> files, Path destination, Map<String, Integer> modes,
+                                     int defaultMode) throws IOException {
+        int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), files.size()));
+        ExecutorService executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "zip-extract");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[PARALLEL_BUFFER_SIZE]);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (ZipEntry entry : files) {
+                futures.add(executorService.submit(() -> {
+                    Path path = destination.resolve(entry.getName());
+                    extractFile(zip, entry, path, buffers.get());
+                    if (POSIX_SUPPORTED) {
+                        setPermissions(path, modes.get(entry.getName()), defaultMode, false);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("extraction interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static void extractFile(ZipFile zip, ZipEntry entry, Path path, byte[] buffer) throws IOException {
+        try (InputStream in = zip.getInputStream(entry);
+             OutputStream out = Files.newOutputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * Applies the modes of the directories once their content is written, so that a directory without write
+     * permission does not block the extraction.
+     */
+    private static void setDirectoryPermissions(List<Path> directories, Map<String, Integer> modes, Path destination,
+                                                int defaultMode) throws IOException {
+        for (Path directory : directories) {
+            if (directory.equals(destination)) {
+                continue;
+            }
+            String name = destination.relativize(directory).toString().replace('\\', '/') + "/";
+            setPermissions(directory, modes.get(name), defaultMode, true);
+        }
+    }
+
+    private static void setPermissions(Path path, Integer mode, int defaultMode, boolean directory)
+            throws IOException {
+        int permissions = mode != null ? mode : defaultMode;
+        if (permissions == UNSPECIFIED_MODE) {
+            return;
+        }
+        permissions |= directory ? OWNER_WRITE | OWNER_EXECUTE : OWNER_WRITE;
+        Files.setPosixFilePermissions(path, toPermissions(permissions));
+    }
+
+    private static Set<PosixFilePermission> toPermissions(int mode) {
+        Set<PosixFilePermission> permissions = EnumSet.noneOf(PosixFilePermission.class);
+        PosixFilePermission[] values = PosixFilePermission.values();
+        // The constants are declared from OWNER_READ (0400) down to OTHERS_EXECUTE (0001)
+        for (int i = 0; i < values.length; i++) {
+            if ((mode & (0400 >> i)) != 0) {
+                permissions.add(values[i]);
+            }
+        }
+        return permissions;
+    }
+
+    /**
+     * Reads the modes of the entries from the central directory of the given archive.
+     */
+    private static Map<String, Integer> readModes(Path zipFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(zipFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int tailSize = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE);
+            ByteBuffer tail = readFully(channel, size - tailSize, tailSize);
+            int end = findEndOfCentralDirectory(tail);
+            if (end < 0) {
+                return Collections.emptyMap();
+            }
+            long centralDirectorySize = tail.getInt(end + 12) & 0xFFFFFFFFL;
+            long centralDirectoryOffset = tail.getInt(end + 16) & 0xFFFFFFFFL;
+            if (centralDirectorySize > MAX_CENTRAL_DIRECTORY_SIZE
+                    || centralDirectoryOffset + centralDirectorySize > size) {
+                return Collections.emptyMap();
+            }
+            return readModes(readFully(channel, centralDirectoryOffset, (int) centralDirectorySize));
+        }
+    }
+
+    /**
+     * Reads the modes of the entries from the tail of an archive which ends with the central directory.
+     */
+    private static Map<String, Integer> readModes(byte[] tailBytes) {
+        ByteBuffer tail = ByteBuffer.wrap(tailBytes).order(ByteOrder.LITTLE_ENDIAN);
+        int end = findEndOfCentralDirectory(tail);
+        if (end < 0) {
+            return Collections.emptyMap();
+        }
+        long centralDirectorySize = tail.getInt(end + 12) & 0xFFFFFFFFL;
+        if (centralDirectorySize > end) {
+            return Collections.emptyMap();
+        }
+        ByteBuffer centralDirectory = tail.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        centralDirectory.position(end - (int) centralDirectorySize).limit(end);
+        return readModes(centralDirectory.slice().order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    private static Map<String, Integer> readModes(ByteBuffer centralDirectory) {
+        Map<String, Integer> modes = new HashMap<>();
+        int position = 0;
+        while (position + CENTRAL_DIRECTORY_HEADER_SIZE <= centralDirectory.limit()
+                && centralDirectory.getInt(position) == CENTRAL_DIRECTORY_SIGNATURE) {
+            int host = (centralDirectory.getShort(position + 4) & 0xFFFF) >> 8;
+            int nameLength = centralDirectory.getShort(position + 28) & 0xFFFF;
+            int extraLength = centralDirectory.getShort(position + 30) & 0xFFFF;
+            int commentLength = centralDirectory.getShort(position + 32) & 0xFFFF;
+            int mode = (centralDirectory.getInt(position + 38) >>> 16) & PERMISSION_BITS;
+            int nameStart = position + CENTRAL_DIRECTORY_HEADER_SIZE;
+            if (nameStart + nameLength > centralDirectory.limit()) {
+                break;
+            }
+            if ((host == UNIX_HOST || host == OSX_HOST) && mode != 0) {
+                byte[] name = new byte[nameLength];
+                for (int i = 0; i < nameLength; i++) {
+                    name[i] = centralDirectory.get(nameStart + i);
+                }
+                modes.put(new String(name, StandardCharsets.UTF_8), mode);
+            }
+            position = nameStart + nameLength + extraLength + commentLength;
+        }
+        return modes;
+    }
+
+    /**
+     * Finds the end of central directory record, which is followed by a comment of up to 64 KB.
+     */
+    private static int findEndOfCentralDirectory(ByteBuffer tail) {
+        tail.order(ByteOrder.LITTLE_ENDIAN);
+        for (int position = tail.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; position >= 0; position--) {
+            if (tail.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE
+                    && position + END_OF_CENTRAL_DIRECTORY_SIZE + (tail.getShort(position + 20) & 0xFFFF)
+                    == tail.limit()) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("unexpected end of the archive");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Resolves the path of an entry making sure that it does not escape the destination.
+     */
+    private static Path resolveEntry(Path destination, ZipEntry entry) throws IOException {
+        Path path = destination.resolve(entry.getName()).normalize();
+        if (!path.startsWith(destination.normalize())) {
+            throw new IOException("invalid entry '" + entry.getName() + "' in the archive");
+        }
+        return path;
+    }
+
+    /**
+     * Stream which keeps the last bytes read from it, used to capture the central directory at the end of a streamed
+     * archive.
+     */
+    private static class TailInputStream extends FilterInputStream {
+        private final byte[] ring;
+        private long count;
+
+        private TailInputStream(InputStream in, int capacity) {
+            super(in);
+            this.ring = new byte[capacity];
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                ring[(int) (count++ % ring.length)] = (byte) value;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            int copied = Math.max(read - ring.length, 0);
+            count += copied;
+            while (copied < read) {
+                int position = (int) (count % ring.length);
+                int length = Math.min(read - copied, ring.length - position);
+                System.arraycopy(b, off + copied, ring, position, length);
+                copied += length;
+                count += length;
+            }
+            return read;
+        }
+
+        private byte[] getTail() {
+            int length = (int) Math.min(count, ring.length);
+            byte[] tail = new byte[length];
+            int start = (int) ((count - length) % ring.length);
+            int firstPart = Math.min(length, ring.length - start);
+            System.arraycopy(ring, start, tail, 0, firstPart);
+            System.arraycopy(ring, 0, tail, firstPart, length - firstPart);
+            return tail;
+        }
+    }
+}
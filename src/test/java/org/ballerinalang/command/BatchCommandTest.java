@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command;
+
+import org.ballerinalang.command.cmd.BatchCommand;
+import org.ballerinalang.command.exceptions.CommandException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import picocli.CommandLine;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for dist batch command.
+ *
+ * @since 1.6.0
+ */
+public class BatchCommandTest extends CommandTest {
+
+    @Test
+    public void batchCommandTest() {
+        BatchCommand batchCommand = createBatchCommand("# provision\npull 2201.5.0\n\nuse 2201.5.0\nlist\n");
+        new CommandLine(batchCommand).parse("-t");
+        batchCommand.execute();
+        Assert.assertTrue(outContent.toString().contains("$ bal dist pull 2201.5.0"));
+        Assert.assertTrue(outContent.toString().contains("'2201.5.0' is the current active distribution version"));
+        Assert.assertTrue(outContent.toString().contains("Distributions available locally"));
+    }
+
+    @Test
+    public void batchCommandWithInvalidLineTest() {
+        BatchCommand batchCommand = createBatchCommand("list\nupdate\n");
+        new CommandLine(batchCommand).parse();
+        try {
+            batchCommand.execute();
+            Assert.fail("The batch should fail");
+        } catch (CommandException e) {
+            Assert.assertTrue(e.getMessages().get(0).contains("unknown command 'update' at line 2"));
+        }
+        // No command is executed when a line is invalid
+        Assert.assertFalse(outContent.toString().contains("$ bal dist list"));
+    }
+
+    @Test
+    public void batchCommandWithInvalidOptionTest() {
+        BatchCommand batchCommand = createBatchCommand("remove --unknown\n");
+        new CommandLine(batchCommand).parse();
+        try {
+            batchCommand.execute();
+            Assert.fail("The batch should fail");
+        } catch (CommandException e) {
+            Assert.assertTrue(e.getMessages().get(0).contains("at line 1"));
+        }
+    }
+
+    @Test
+    public void batchCommandWithMultipleArgsTest() {
+        try {
+            BatchCommand batchCommand = createBatchCommand("");
+            new CommandLine(batchCommand).parse("arg1", "arg2");
+            batchCommand.execute();
+        } catch (CommandException e) {
+            Assert.assertTrue(e.getMessages().get(0).contains("too many arguments"));
+        }
+    }
+
+    @Test
+    public void batchCommandHelpTest() {
+        BatchCommand batchCommand = createBatchCommand("");
+        new CommandLine(batchCommand).parse("-h");
+        batchCommand.execute();
+        Assert.assertTrue(outContent.toString().contains("Execute a batch of dist commands in one go"));
+    }
+
+    private BatchCommand createBatchCommand(String input) {
+        return new BatchCommand(testStream, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -19,8 +19,12 @@ import org.ballerinalang.command.cmd.BuildCommand;
 import org.ballerinalang.command.util.OSUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import picocli.CommandLine;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 /**
  * Test cases for build command.
@@ -45,4 +49,23 @@ public class BuildCommandTest extends CommandTest {
             noticeFile.delete();
         }
     }
+
+    @Test
+    public void backgroundBuildCommandTest() throws IOException {
+        File noticeFile = new File(OSUtils.getUpdateNoticePath());
+        File pendingNoticeFile = new File(OSUtils.getPendingUpdateNoticePath());
+        noticeFile.delete();
+        pendingNoticeFile.delete();
+
+        BuildCommand buildCommand = new BuildCommand(testStream);
+        new CommandLine(buildCommand).parse("--background");
+        buildCommand.execute();
+        // The notice is left for the launcher to print on the next build
+        Assert.assertFalse(outContent.toString().contains("A new version of Ballerina is available:"));
+        Assert.assertTrue(new String(Files.readAllBytes(pendingNoticeFile.toPath()), StandardCharsets.UTF_8)
+                .contains("A new version of Ballerina is available:"));
+
+        noticeFile.delete();
+        pendingNoticeFile.delete();
+    }
 }
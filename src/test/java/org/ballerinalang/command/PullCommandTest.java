@@ -48,7 +48,20 @@ public class PullCommandTest extends CommandTest {
             new CommandLine(pullCommand).parse("arg1", "arg2");
             pullCommand.execute();
         } catch (CommandException e) {
-            Assert.assertTrue(e.getMessages().get(0).contains("too many arguments"));
+            // Every distribution is validated before any of them is downloaded
+            Assert.assertTrue(e.getMessages().get(0).contains("distribution 'arg1' not found"));
+        }
+    }
+
+    @Test
+    public void pullCommandWithInvalidConcurrencyTest() {
+        try {
+            PullCommand pullCommand = new PullCommand(testStream);
+            new CommandLine(pullCommand).parse("--concurrency", "0", "2201.4.0", "2201.5.0");
+            pullCommand.execute();
+            Assert.fail("The pull should fail");
+        } catch (CommandException e) {
+            Assert.assertTrue(e.getMessages().get(0).contains("the concurrency must be at least 1"));
         }
     }
 
@@ -94,4 +107,19 @@ public class PullCommandTest extends CommandTest {
         pullCommand.execute();
         Assert.assertTrue(outContent.toString().contains("is already the active distribution"));
     }
+
+    @Test
+    public void pullMultipleDistributionsTest() {
+        PullCommand pullCommand = new PullCommand(testStream);
+        new CommandLine(pullCommand).parse("--no-use", "--concurrency", "2", "2201.4.0", "2201.3.0");
+        pullCommand.execute();
+        Assert.assertTrue(outContent.toString().contains("2201.3.0"));
+        Assert.assertFalse(outContent.toString().contains("successfully set as the active distribution"));
+
+        PullCommand pullAndUseCommand = new PullCommand(testStream);
+        new CommandLine(pullAndUseCommand).parse("2201.3.0", "2201.4.0");
+        pullAndUseCommand.execute();
+        Assert.assertTrue(outContent.toString().contains("'2201.3.0' is already available locally"));
+        Assert.assertTrue(outContent.toString().contains("'2201.4.0' successfully set as the active distribution"));
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command;
+
+import org.ballerinalang.command.cmd.SyncCommand;
+import org.ballerinalang.command.exceptions.CommandException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test cases for dist sync command.
+ *
+ * @since 1.6.0
+ */
+public class SyncCommandTest extends CommandTest {
+
+    @Test
+    public void syncCommandTest() throws IOException {
+        Path manifest = Files.createTempFile("dists", ".toml");
+        Files.write(manifest, "distributions = [\"2201.5.0\"]\nretention = \"keep\"\n"
+                .getBytes(StandardCharsets.UTF_8));
+        SyncCommand syncCommand = new SyncCommand(testStream);
+        new CommandLine(syncCommand).parse("-t", manifest.toString());
+        syncCommand.execute();
+        Assert.assertTrue(outContent.toString().contains("in sync with"));
+
+        // Nothing is changed once the local distributions match the manifest
+        syncCommand.execute();
+        Assert.assertTrue(outContent.toString().contains("already in sync with"));
+        Files.delete(manifest);
+    }
+
+    @Test
+    public void syncCommandWithoutManifestFileTest() {
+        try {
+            SyncCommand syncCommand = new SyncCommand(testStream);
+            new CommandLine(syncCommand).parse("non-existing.toml");
+            syncCommand.execute();
+            Assert.fail("The sync should fail");
+        } catch (CommandException e) {
+            Assert.assertTrue(e.getMessages().get(0).contains("manifest 'non-existing.toml' not found"));
+        }
+    }
+
+    @Test
+    public void syncCommandWithMultipleArgsTest() {
+        try {
+            SyncCommand syncCommand = new SyncCommand(testStream);
+            new CommandLine(syncCommand).parse("arg1", "arg2");
+            syncCommand.execute();
+        } catch (CommandException e) {
+            Assert.assertTrue(e.getMessages().get(0).contains("too many arguments"));
+        }
+    }
+
+    @Test
+    public void syncCommandWithoutArgsTest() {
+        try {
+            SyncCommand syncCommand = new SyncCommand(testStream);
+            new CommandLine(syncCommand).parse();
+            syncCommand.execute();
+        } catch (CommandException e) {
+            Assert.assertTrue(e.getMessages().get(0).contains("a manifest must be specified to sync"));
+        }
+    }
+
+    @Test
+    public void syncCommandHelpTest() {
+        SyncCommand syncCommand = new SyncCommand(testStream);
+        new CommandLine(syncCommand).parse("-h");
+        syncCommand.execute();
+        Assert.assertTrue(outContent.toString().contains("Sync local distributions with a manifest"));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test cases for the update tool daemon.
+ *
+ * @since 1.6.0
+ */
+public class ToolDaemonTest {
+    private static final String TOKEN = "test-token";
+    private static final List<String> ENVIRONMENT = Collections.nCopies(ToolDaemon.ENVIRONMENT.size(), "");
+
+    private ServerSocket serverSocket;
+    private Thread daemonThread;
+    private Path workingDirectory;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        workingDirectory = Files.createTempDirectory("tool-daemon-test");
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        ToolDaemon daemon = new ToolDaemon(serverSocket, TOKEN, ENVIRONMENT);
+        daemonThread = new Thread(() -> {
+            try {
+                daemon.serve();
+            } catch (IOException e) {
+                // The server socket is closed at the end of the tests
+            }
+        });
+        daemonThread.start();
+    }
+
+    @Test
+    public void executeCommandTest() throws IOException {
+        List<String> frames = request(TOKEN, ENVIRONMENT, "help");
+        Assert.assertEquals(frames.get(frames.size() - 1), ToolDaemon.EXIT + "0");
+        Assert.assertTrue(getOutput(frames, ToolDaemon.OUT).contains("Update Commands:"));
+
+        // The daemon serves many commands, each with its own output
+        frames = request(TOKEN, ENVIRONMENT, "dist", "unknown");
+        Assert.assertEquals(frames.get(frames.size() - 1), ToolDaemon.EXIT + "1");
+        Assert.assertTrue(getOutput(frames, ToolDaemon.ERR).contains("unknown command 'unknown'"));
+        Assert.assertEquals(getOutput(frames, ToolDaemon.OUT), "");
+    }
+
+    @Test
+    public void rejectRequestTest() throws IOException {
+        Assert.assertEquals(request("invalid-token", ENVIRONMENT, "help"), Collections.emptyList());
+
+        List<String> environment = new ArrayList<>(ENVIRONMENT);
+        environment.set(0, "/home/other");
+        Assert.assertEquals(request(TOKEN, environment, "help"), Collections.singletonList(
+                String.valueOf(ToolDaemon.RETRY)));
+
+        // The paths of the arguments cannot be resolved without an absolute working directory
+        Assert.assertEquals(requestIn("relative", TOKEN, ENVIRONMENT, "help"), Collections.emptyList());
+    }
+
+    @Test
+    public void resolveWorkingDirectoryTest() throws IOException {
+        Files.write(workingDirectory.resolve("batch.txt"), "update\n".getBytes(StandardCharsets.UTF_8));
+        List<String> frames = request(TOKEN, ENVIRONMENT, "dist", "batch", "batch.txt");
+        Assert.assertEquals(frames.get(frames.size() - 1), ToolDaemon.EXIT + "1");
+        Assert.assertTrue(getOutput(frames, ToolDaemon.ERR).contains("unknown command 'update' at line 1"));
+    }
+
+    @Test
+    public void runStandardInputCommandInLauncherTest() throws IOException {
+        List<String> local = Collections.singletonList(String.valueOf(ToolDaemon.LOCAL));
+        Assert.assertEquals(request(TOKEN, ENVIRONMENT, "dist", "batch"), local);
+        Assert.assertEquals(request(TOKEN, ENVIRONMENT, "dist", "batch", "-t", "-"), local);
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException, InterruptedException {
+        serverSocket.close();
+        daemonThread.join();
+        Files.deleteIfExists(workingDirectory.resolve("batch.txt"));
+        Files.deleteIfExists(workingDirectory);
+    }
+
+    private List<String> request(String token, List<String> environment, String... args) throws IOException {
+        return requestIn(workingDirectory.toString(), token, environment, args);
+    }
+
+    private List<String> requestIn(String workingDirectory, String token, List<String> environment, String... args)
+            throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort())) {
+            List<String> lines = new ArrayList<>();
+            lines.add(token);
+            lines.addAll(environment);
+            lines.add(workingDirectory);
+            lines.add(String.valueOf(args.length));
+            lines.addAll(Arrays.asList(args));
+            OutputStream out = socket.getOutputStream();
+            out.write((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            List<String> frames = new ArrayList<>();
+            InputStream in = socket.getInputStream();
+            ByteArrayOutputStream frame = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == 0) {
+                    frames.add(new String(frame.toByteArray(), StandardCharsets.UTF_8));
+                    frame.reset();
+                } else {
+                    frame.write(b);
+                }
+            }
+            return frames;
+        }
+    }
+
+    private static String getOutput(List<String> frames, char type) {
+        StringBuilder output = new StringBuilder();
+        for (String frame : frames) {
+            if (frame.charAt(0) == type) {
+                output.append(frame.substring(1));
+            }
+        }
+        return output.toString();
+    }
+}
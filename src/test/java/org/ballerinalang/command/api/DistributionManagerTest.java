@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+import org.ballerinalang.command.CommandTest;
+import org.ballerinalang.command.exceptions.CommandException;
+import org.ballerinalang.command.util.Channel;
+import org.ballerinalang.command.util.Distribution;
+import org.ballerinalang.command.util.DistributionIndex;
+import org.ballerinalang.command.util.ErrorUtil;
+import org.ballerinalang.command.util.InstallationLayout;
+import org.ballerinalang.command.util.OSUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases for the distribution manager API.
+ *
+ * @since 1.6.0
+ */
+public class DistributionManagerTest extends CommandTest {
+
+    @Test
+    public void pullAndUseTest() {
+        DistributionManager distributionManager = new DistributionManager(testStream);
+        distributionManager.setTestMode(true);
+        List<String> events = new ArrayList<>();
+        PullResult result = distributionManager.pull("2201.5.0", new DownloadListener() {
+            @Override
+            public void started(String task) {
+                events.add("started");
+            }
+
+            @Override
+            public void progressed(long bytes, long totalBytes) {
+                Assert.assertTrue(bytes <= totalBytes);
+            }
+
+            @Override
+            public void finished() {
+                events.add("finished");
+            }
+        });
+        Assert.assertEquals(result.getVersion(), "2201.5.0");
+        if (result.getStatus() == PullResult.Status.DOWNLOADED) {
+            Assert.assertEquals(events.get(0), "started");
+            Assert.assertEquals(events.get(events.size() - 1), "finished");
+        }
+        Assert.assertEquals(distributionManager.getActiveVersion(), "2201.5.0");
+
+        Assert.assertEquals(distributionManager.use("2201.5.0"), UseResult.ALREADY_ACTIVE);
+        Assert.assertEquals(distributionManager.pull("2201.5.0", null).getStatus(),
+                PullResult.Status.ALREADY_ACTIVE);
+        Assert.assertEquals(distributionManager.use("slbeta7"), UseResult.NOT_FOUND);
+    }
+
+    @Test
+    public void listTest() {
+        DistributionIndex distributionIndex = new DistributionIndex(Arrays.asList(
+                new Channel("Swan Lake channel", Arrays.asList(
+                        createDistribution("2201.4.2", "Swan Lake channel"),
+                        createDistribution("2201.10.0", "Swan Lake channel"),
+                        createDistribution("2201.5.0", "Swan Lake channel"))),
+                new Channel("Swan Lake pre-release channel", Arrays.asList(
+                        createDistribution("slbeta6", "Swan Lake pre-release channel"),
+                        createDistribution("slalpha5", "Swan Lake pre-release channel")))));
+        DistributionList distributionList = new DistributionManager(testStream, () -> distributionIndex).list();
+
+        Assert.assertNotNull(distributionList.getLocalVersions());
+        Assert.assertNull(distributionList.getRemoteError());
+        List<Channel> channels = distributionList.getChannels();
+        Assert.assertEquals(channels.size(), 2);
+        Assert.assertEquals(channels.get(0).getName(), "Swan Lake channel");
+        // The distributions of a channel are listed from the latest version
+        Assert.assertEquals(getVersions(channels.get(0)), Arrays.asList("2201.10.0", "2201.5.0", "2201.4.2"));
+        // The pre-releases keep the order of the remote server
+        Assert.assertEquals(channels.get(1).getName(), "Swan Lake pre-release channel");
+        Assert.assertEquals(getVersions(channels.get(1)), Arrays.asList("slbeta6", "slalpha5"));
+    }
+
+    @Test
+    public void listWithoutRemoteServerTest() {
+        DistributionList distributionList = new DistributionManager(testStream, () -> {
+            throw ErrorUtil.createCommandException("unable to connect to the remote server");
+        }).list();
+
+        // The local distributions are listed even if the remote server cannot be reached
+        Assert.assertNotNull(distributionList.getLocalVersions());
+        Assert.assertTrue(distributionList.getChannels().isEmpty());
+        Assert.assertTrue(distributionList.getRemoteError().getMessages().get(0)
+                .contains("unable to connect to the remote server"));
+    }
+
+    @Test
+    public void listLocalDistributionsTest() throws IOException {
+        Path root = Files.createTempDirectory("installation");
+        try {
+            InstallationLayout layout = new InstallationLayout(root, root.resolve(".ballerina"));
+            List<String> versions = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                versions.add("2201." + i + ".0");
+                Files.createDirectories(layout.getDistributionsPath().resolve("ballerina-2201." + i + ".0"));
+            }
+            DistributionManager distributionManager = new DistributionManager(testStream,
+                    () -> new DistributionIndex(new ArrayList<>()), layout);
+
+            // The local distributions are listed in the order of their directory names
+            versions.sort(null);
+            Assert.assertEquals(distributionManager.list().getLocalVersions(), versions);
+
+            // The layout has checked the distributions directory once, so it is not created again when listing
+            OSUtils.deleteFiles(layout.getDistributionsPath());
+            Assert.assertNull(distributionManager.list().getLocalVersions());
+            Assert.assertFalse(Files.exists(layout.getDistributionsPath()));
+        } finally {
+            OSUtils.deleteFiles(root);
+        }
+    }
+
+    @Test(expectedExceptions = CommandException.class)
+    public void removeActiveDistributionTest() {
+        DistributionManager distributionManager = new DistributionManager(testStream);
+        distributionManager.remove(distributionManager.getActiveVersion());
+    }
+
+    private static Distribution createDistribution(String version, String channel) {
+        return new Distribution("Ballerina " + version, version, "ballerina", channel, "jdk-17.0.7+7-jre");
+    }
+
+    private static List<String> getVersions(Channel channel) {
+        List<String> versions = new ArrayList<>();
+        for (Distribution distribution : channel.getDistributions()) {
+            versions.add(distribution.getVersion());
+        }
+        return versions;
+    }
+}
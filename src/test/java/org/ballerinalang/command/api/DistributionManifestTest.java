@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+import org.ballerinalang.command.exceptions.CommandException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Test cases for reading the distribution manifest.
+ *
+ * @since 1.6.0
+ */
+public class DistributionManifestTest {
+    private Path manifestFile;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        manifestFile = Files.createTempFile("dists", ".toml");
+    }
+
+    @Test
+    public void readManifestTest() throws IOException {
+        DistributionManifest manifest = read("distributions = [\"2201.5.0\", \"2201.4.2\", \"2201.5.0\"]\n" +
+                "active = \"2201.4.2\"\nretention = \"keep\"\n");
+        Assert.assertEquals(manifest.getDistributions(), Arrays.asList("2201.5.0", "2201.4.2"));
+        Assert.assertEquals(manifest.getActive(), "2201.4.2");
+        Assert.assertEquals(manifest.getRetention(), DistributionManifest.Retention.KEEP);
+    }
+
+    @Test
+    public void defaultsTest() throws IOException {
+        DistributionManifest manifest = read("distributions = [\"2201.5.0\", \"2201.4.2\"]\n");
+        Assert.assertEquals(manifest.getActive(), "2201.5.0");
+        Assert.assertEquals(manifest.getRetention(), DistributionManifest.Retention.REMOVE);
+    }
+
+    @Test
+    public void invalidManifestTest() throws IOException {
+        assertInvalid("distributions = \"2201.5.0\"\n", "must be an array of distribution versions");
+        assertInvalid("distributions = []\n", "at least one distribution must be listed");
+        assertInvalid("distributions = [\"2201.5.0\"]\nactive = \"2201.4.2\"\n",
+                "the active distribution '2201.4.2' must be listed");
+        assertInvalid("distributions = [\"2201.5.0\"]\nretention = \"purge\"\n", "invalid retention 'purge'");
+        assertInvalid("distributions = [\n", "invalid manifest");
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(manifestFile);
+    }
+
+    private DistributionManifest read(String content) throws IOException {
+        Files.write(manifestFile, content.getBytes(StandardCharsets.UTF_8));
+        return DistributionManifest.read(manifestFile.toFile());
+    }
+
+    private void assertInvalid(String content, String error) throws IOException {
+        try {
+            read(content);
+            Assert.fail("The manifest should be invalid");
+        } catch (CommandException e) {
+            Assert.assertTrue(e.getMessages().get(0).contains(error), e.getMessages().get(0));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.api;
+
+import org.ballerinalang.command.util.Channel;
+import org.ballerinalang.command.util.Distribution;
+import org.ballerinalang.command.util.DistributionIndex;
+import org.ballerinalang.command.util.ErrorUtil;
+import org.ballerinalang.command.util.OSUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for what a sync removes from a fake installation.
+ *
+ * @since 1.6.0
+ */
+public class DistributionSyncTest {
+    private static final String TOOL_RUNTIME = "jdk-17.0.7+7-jre";
+
+    private Path tempDir;
+    private Path distributions;
+    private Path dependencies;
+    private Path toolRuntime;
+    private DistributionIndex distributionIndex;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("distribution-sync-test").toRealPath();
+        distributions = Files.createDirectory(tempDir.resolve("distributions"));
+        dependencies = Files.createDirectory(tempDir.resolve("dependencies"));
+        // The update tool runs on a dependency no distribution depends on
+        toolRuntime = Files.createDirectories(dependencies.resolve(TOOL_RUNTIME).resolve("jre"));
+        Files.createDirectory(dependencies.resolve("jdk-11.0.18+10-jre"));
+        Files.createDirectory(dependencies.resolve("jdk-11.0.15+10-jre"));
+        Files.createDirectory(dependencies.resolve("jdk8u202-b08-jre"));
+        Files.createDirectory(distributions.resolve("ballerina-2201.4.2"));
+        Files.createDirectory(distributions.resolve("ballerina-2201.5.0"));
+        Files.write(distributions.resolve("ballerina-version"), "2201.5.0".getBytes(StandardCharsets.UTF_8));
+
+        distributionIndex = new DistributionIndex(Collections.singletonList(new Channel("Swan Lake channel",
+                Arrays.asList(
+                        new Distribution("Swan Lake Update 5", "2201.5.0", "ballerina", "Swan Lake channel",
+                                "jdk-11.0.18+10-jre"),
+                        new Distribution("Swan Lake Update 4", "2201.4.2", "ballerina", "Swan Lake channel",
+                                "jdk-11.0.18+10-jre"),
+                        new Distribution("Swan Lake Update 1", "2201.1.0", "ballerina", "Swan Lake channel",
+                                "jdk-11.0.15+10-jre")))));
+    }
+
+    @Test
+    public void removeUnreferencedDependenciesTest() {
+        List<String> removed = DistributionManager.removeUnreferencedDependencies(distributions.toFile(),
+                dependencies.toFile(), toolRuntime, () -> distributionIndex);
+
+        Assert.assertEquals(removed.size(), 2);
+        Assert.assertTrue(removed.containsAll(Arrays.asList("jdk-11.0.15+10-jre", "jdk8u202-b08-jre")));
+        // The dependency of the local distributions and the runtime of the update tool are kept
+        Assert.assertTrue(Files.isDirectory(dependencies.resolve("jdk-11.0.18+10-jre")));
+        Assert.assertTrue(Files.isDirectory(toolRuntime));
+        Assert.assertFalse(Files.exists(dependencies.resolve("jdk-11.0.15+10-jre")));
+        Assert.assertFalse(Files.exists(dependencies.resolve("jdk8u202-b08-jre")));
+    }
+
+    @Test
+    public void keepDependenciesOfUnknownDistributionTest() throws IOException {
+        // A local distribution which is not in the index may depend on any of the dependencies
+        Files.createDirectory(distributions.resolve("ballerina-2201.9.0"));
+        List<String> removed = DistributionManager.removeUnreferencedDependencies(distributions.toFile(),
+                dependencies.toFile(), toolRuntime, () -> distributionIndex);
+
+        Assert.assertTrue(removed.isEmpty());
+        Assert.assertEquals(listDependencies().size(), 4);
+    }
+
+    @Test
+    public void keepDependenciesWithoutIndexTest() {
+        List<String> removed = DistributionManager.removeUnreferencedDependencies(distributions.toFile(),
+                dependencies.toFile(), toolRuntime, () -> {
+                    throw ErrorUtil.createCommandException("unable to connect to the remote server");
+                });
+
+        Assert.assertTrue(removed.isEmpty());
+        Assert.assertEquals(listDependencies().size(), 4);
+    }
+
+    @Test
+    public void skipIndexForToolRuntimeTest() throws IOException {
+        for (String dependency : Arrays.asList("jdk-11.0.18+10-jre", "jdk-11.0.15+10-jre", "jdk8u202-b08-jre")) {
+            Files.delete(dependencies.resolve(dependency));
+        }
+        List<String> removed = DistributionManager.removeUnreferencedDependencies(distributions.toFile(),
+                dependencies.toFile(), toolRuntime, () -> {
+                    throw new AssertionError("the index should not be read when only the tool runtime is left");
+                });
+
+        Assert.assertTrue(removed.isEmpty());
+        Assert.assertTrue(Files.isDirectory(toolRuntime));
+    }
+
+    @Test
+    public void unlistedVersionsTest() {
+        Map<String, String> resolvedVersions = new LinkedHashMap<>();
+        resolvedVersions.put("2201.5.0", "2201.5.0");
+        resolvedVersions.put("latest", "2201.8.0");
+        List<String> localVersions = Arrays.asList("2201.4.2", "2201.5.0", "2201.8.0");
+
+        DistributionManifest remove = new DistributionManifest(Arrays.asList("2201.5.0", "latest"), null,
+                DistributionManifest.Retention.REMOVE);
+        Assert.assertEquals(DistributionManager.getUnlistedVersions(remove, resolvedVersions, localVersions),
+                Collections.singletonList("2201.4.2"));
+
+        DistributionManifest keep = new DistributionManifest(Arrays.asList("2201.5.0", "latest"), null,
+                DistributionManifest.Retention.KEEP);
+        Assert.assertTrue(DistributionManager.getUnlistedVersions(keep, resolvedVersions, localVersions).isEmpty());
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        OSUtils.deleteFiles(tempDir);
+    }
+
+    private List<String> listDependencies() {
+        String[] names = dependencies.toFile().list();
+        return names == null ? Collections.emptyList() : Arrays.asList(names);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test cases for the Ballerina version ordering.
+ *
+ * @since 1.6.0
+ */
+public class BallerinaVersionTest {
+
+    @Test
+    public void orderTest() {
+        List<String> ordered = Arrays.asList("1.2.0", "1.2.9", "1.2.10", "slp1", "slp8", "slalpha5", "slbeta1",
+                "slbeta6", "2201.0.0-rc1", "2201.0.0", "2201.0.4", "2201.9.0", "2201.10.0");
+        List<BallerinaVersion> versions = new ArrayList<>();
+        for (String version : ordered) {
+            versions.add(BallerinaVersion.of(version));
+        }
+        Collections.shuffle(versions);
+        Collections.sort(versions);
+        Assert.assertEquals(versions.stream().map(BallerinaVersion::getValue).collect(Collectors.toList()), ordered);
+    }
+
+    @Test
+    public void parseTest() {
+        BallerinaVersion version = BallerinaVersion.of("2201.10.3");
+        Assert.assertEquals(version.getMajor(), 2201);
+        Assert.assertEquals(version.getMinor(), 10);
+        Assert.assertEquals(version.getPatch(), 3);
+        Assert.assertFalse(version.isPreview());
+        Assert.assertTrue(BallerinaVersion.of("slbeta6").isPreview());
+        // Versions are parsed once and shared
+        Assert.assertSame(BallerinaVersion.of("2201.10.3"), version);
+        // Versions which follow none of the schemes are ordered first
+        Assert.assertEquals(BallerinaVersion.of("nightly").getMajor(), -1);
+        Assert.assertTrue(BallerinaVersion.of("nightly").compareTo(BallerinaVersion.of("1.0.0")) < 0);
+    }
+
+    @Test
+    public void typeTest() {
+        Assert.assertEquals(BallerinaVersion.of("1.2.0").getType(), "jballerina");
+        Assert.assertEquals(BallerinaVersion.of("2201.1.0").getType(), "ballerina");
+        Assert.assertEquals(BallerinaVersion.of("slp5").getType(), "ballerina");
+    }
+}
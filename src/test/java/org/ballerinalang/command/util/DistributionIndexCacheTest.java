@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+/**
+ * Test cases for the distribution index cached in the ballerina home directory.
+ *
+ * @since 1.6.0
+ */
+public class DistributionIndexCacheTest {
+    private static final String SERVER_URL = "https://api.central.ballerina.io/2.0/update-tool";
+    private static final String STAGING_SERVER_URL = "https://api.staging-central.ballerina.io/2.0/update-tool/";
+
+    private Path cacheDirectory;
+    private Path cacheFile;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        cacheDirectory = Files.createTempDirectory("distribution-index-cache-test");
+        cacheFile = cacheDirectory.resolve("distributions-cache.json");
+    }
+
+    @Test
+    public void writeAndReadTest() throws IOException {
+        Distribution distribution = new Distribution("Ballerina 2201.9.0", "2201.9.0", "ballerina",
+                "Swan Lake channel", "jdk-17.0.7+7-jre");
+        distribution.setSha256("0a1b");
+        distribution.setDependencySha256("2c3d");
+        Channel channel = new Channel("Swan Lake channel", Collections.singletonList(distribution));
+        new DistributionIndexCache(new DistributionIndex(Collections.singletonList(channel)), SERVER_URL, "\"v1\"",
+                null, 1000).write(cacheFile);
+
+        DistributionIndexCache cache = DistributionIndexCache.read(cacheFile, SERVER_URL);
+        Assert.assertNotNull(cache);
+        Assert.assertEquals(cache.getETag(), "\"v1\"");
+        Assert.assertNull(cache.getLastModified());
+        Assert.assertEquals(cache.getFetchedTime(), 1000);
+        Assert.assertEquals(cache.getIndex().getDependency("2201.9.0"), "jdk-17.0.7+7-jre");
+        Assert.assertEquals(cache.getIndex().getDistribution("2201.9.0").getSha256(), "0a1b");
+        Assert.assertEquals(cache.getIndex().getDistribution("2201.9.0").getDependencySha256(), "2c3d");
+    }
+
+    @Test
+    public void readCacheOfAnotherServerTest() throws IOException {
+        new DistributionIndexCache(new DistributionIndex(Collections.emptyList()), STAGING_SERVER_URL, null, null,
+                System.currentTimeMillis()).write(cacheFile);
+        Assert.assertNull(DistributionIndexCache.read(cacheFile, SERVER_URL));
+        Assert.assertNotNull(DistributionIndexCache.read(cacheFile, STAGING_SERVER_URL));
+
+        // A cache written before the server was recorded may be of any server
+        Files.write(cacheFile, "{\"fetchedTime\":1000,\"channels\":[]}".getBytes(StandardCharsets.UTF_8));
+        Assert.assertNull(DistributionIndexCache.read(cacheFile, SERVER_URL));
+    }
+
+    @Test
+    public void readCorruptedCacheTest() throws IOException {
+        Assert.assertNull(DistributionIndexCache.read(cacheFile, SERVER_URL));
+        Files.write(cacheFile, "{\"channels\":".getBytes(StandardCharsets.UTF_8));
+        Assert.assertNull(DistributionIndexCache.read(cacheFile, SERVER_URL));
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(cacheFile);
+        Files.deleteIfExists(cacheDirectory);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases for resolving the latest distributions from the distribution index.
+ *
+ * @since 1.6.0
+ */
+public class DistributionIndexTest {
+    private static final String SWAN_LAKE_CHANNEL = "Swan Lake channel";
+    private static final String ONE_X_CHANNEL = "1.* channel";
+    private static final String PRE_RELEASE_CHANNEL = "Swan Lake pre-release channel";
+
+    private DistributionIndex index;
+
+    @BeforeClass
+    public void setUp() {
+        index = new DistributionIndex(Arrays.asList(
+                createChannel(SWAN_LAKE_CHANNEL, "2201.10.0", "2201.9.2", "2201.9.0", "2201.3.5", "2201.3.0"),
+                createChannel(PRE_RELEASE_CHANNEL, "2201.11.0-rc1", "slbeta6", "slp8"),
+                createChannel(ONE_X_CHANNEL, "1.2.10", "1.2.9", "1.1.0")));
+    }
+
+    @Test
+    public void latestPatchTest() {
+        Assert.assertEquals(index.getLatest("2201.9.0", DistributionIndex.PATCH), "2201.9.2");
+        // Versions are compared numerically, not as strings
+        Assert.assertEquals(index.getLatest("1.2.9", DistributionIndex.PATCH), "1.2.10");
+        Assert.assertEquals(index.getLatest("2201.10.0", DistributionIndex.PATCH), "2201.10.0");
+    }
+
+    @Test
+    public void latestMinorAndMajorTest() {
+        Assert.assertEquals(index.getLatest("2201.3.0", DistributionIndex.MINOR), "2201.10.0");
+        Assert.assertEquals(index.getLatest("1.1.0", DistributionIndex.MINOR), "1.2.10");
+        // Pre-releases are never resolved as the latest
+        Assert.assertEquals(index.getLatest("1.1.0", DistributionIndex.MAJOR), "2201.10.0");
+        Assert.assertEquals(index.getLatest("1.1.0", DistributionIndex.CHANNEL), "1.2.10");
+    }
+
+    @Test
+    public void unresolvedLatestTest() {
+        Assert.assertNull(index.getLatest("2201.99.0", DistributionIndex.PATCH));
+        Assert.assertNull(index.getLatest("slbeta6", DistributionIndex.PATCH));
+        Assert.assertNull(index.getLatest("2201.9.0", "unknown"));
+    }
+
+    private static Channel createChannel(String name, String... versions) {
+        List<Distribution> distributions = new ArrayList<>();
+        for (String version : versions) {
+            distributions.add(new Distribution(version, version, version.startsWith("1.") ? "jballerina" : "ballerina",
+                    name, "jdk"));
+        }
+        return new Channel(name, distributions);
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Test cases for downloading files from a stub server.
+ *
+ * @since 1.6.0
+ */
+public class DownloadUtilTest {
+    private static final int MB = 1024 * 1024;
+    private static final byte[] ZIP_ENTRY_CONTENT = "ballerina".getBytes(StandardCharsets.UTF_8);
+
+    private Path tempDir;
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream printStream = new PrintStream(output);
+
+    // Behaviour of the stub server, changed by the tests before a download
+    private volatile byte[] content;
+    private volatile String eTag;
+    private volatile boolean acceptRanges;
+    private volatile int failAfter;
+    private volatile String digestHeader;
+    private volatile String digestValue;
+    private final AtomicInteger corruptResponses = new AtomicInteger();
+    private final List<String> ranges = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger activeRanges = new AtomicInteger();
+    private final AtomicInteger maxActiveRanges = new AtomicInteger();
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("download-util-test");
+        output.reset();
+        eTag = "\"v1\"";
+        acceptRanges = true;
+        failAfter = -1;
+        digestHeader = null;
+        corruptResponses.set(0);
+        ranges.clear();
+        activeRanges.set(0);
+        maxActiveRanges.set(0);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/file.zip", this::handle);
+        // Ranges are served at the same time, like a real server would
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @Test
+    public void segmentedDownloadTest() throws IOException {
+        content = createContent(32 * MB);
+        Path target = tempDir.resolve("file.zip");
+        DownloadUtil.downloadFile(openConnection(), Collections.emptyMap(), target, "file.zip", printStream);
+
+        Assert.assertEquals(Files.readAllBytes(target), content);
+        // The first response only tells that ranges are accepted, then every segment is requested as a range
+        Assert.assertEquals(ranges.get(0), "");
+        Assert.assertEquals(ranges.size(), 5);
+        Assert.assertTrue(ranges.contains("bytes=0-" + (8 * MB - 1)));
+        Assert.assertTrue(ranges.contains("bytes=" + (24 * MB) + "-" + (32 * MB - 1)));
+        Assert.assertTrue(maxActiveRanges.get() > 1, "the segments should be downloaded at the same time");
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip.part")));
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip.part.properties")));
+    }
+
+    @Test
+    public void rangesNotAcceptedTest() throws IOException {
+        content = createContent(32 * MB);
+        acceptRanges = false;
+        Path target = tempDir.resolve("file.zip");
+        DownloadUtil.downloadFile(openConnection(), Collections.emptyMap(), target, "file.zip", printStream);
+
+        Assert.assertEquals(Files.readAllBytes(target), content);
+        Assert.assertEquals(ranges, Collections.singletonList(""));
+    }
+
+    @Test
+    public void resumeDownloadTest() throws IOException {
+        content = createContent(2 * MB);
+        failAfter = MB;
+        Path target = tempDir.resolve("file.zip");
+        try {
+            DownloadUtil.downloadFile(openConnection(), Collections.emptyMap(), target, "file.zip", printStream);
+            Assert.fail("The download should be interrupted");
+        } catch (IOException e) {
+            Assert.assertTrue(Files.exists(tempDir.resolve("file.zip.part")));
+            Assert.assertTrue(Files.exists(tempDir.resolve("file.zip.part.properties")));
+        }
+
+        failAfter = -1;
+        DownloadUtil.downloadFile(openConnection(), Collections.emptyMap(), target, "file.zip", printStream);
+        Assert.assertEquals(Files.readAllBytes(target), content);
+        // Only what is missing is requested again
+        String range = ranges.get(ranges.size() - 1);
+        Assert.assertTrue(range.matches("bytes=\\d+-" + (2 * MB - 1)), range);
+        Assert.assertNotEquals(range, "bytes=0-" + (2 * MB - 1));
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip.part.properties")));
+    }
+
+    @Test
+    public void resumeChangedFileTest() throws IOException {
+        Path target = interruptDownload();
+        content = createContent(3 * MB);
+        eTag = "\"v2\"";
+        DownloadUtil.downloadFile(openConnection(), Collections.emptyMap(), target, "file.zip", printStream);
+
+        // The range is not served for another version of the file, hence it is downloaded from the start
+        Assert.assertEquals(Files.readAllBytes(target), content);
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip.part.properties")));
+    }
+
+    @Test
+    public void resumeChangedLengthTest() throws IOException {
+        Path target = interruptDownload();
+        // The server serves the range of a file with the same validator but another length
+        content = createContent(3 * MB);
+        DownloadUtil.downloadFile(openConnection(), Collections.emptyMap(), target, "file.zip", printStream);
+
+        Assert.assertEquals(Files.readAllBytes(target), content);
+        // The partial download is discarded and the file is requested again as a whole
+        Assert.assertEquals(ranges.get(ranges.size() - 1), "");
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip.part.properties")));
+    }
+
+    @Test
+    public void checksumMismatchTest() throws IOException {
+        content = createContent(MB);
+        corruptResponses.set(1);
+        Path target = tempDir.resolve("file.zip");
+        download(target, sha256(content));
+
+        // The corrupted download is discarded and downloaded once more
+        Assert.assertEquals(Files.readAllBytes(target), content);
+        Assert.assertEquals(ranges.size(), 2);
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip.part")));
+    }
+
+    @Test
+    public void repeatedChecksumMismatchTest() throws IOException {
+        content = createContent(MB);
+        corruptResponses.set(2);
+        Path target = tempDir.resolve("file.zip");
+        try {
+            download(target, sha256(content));
+            Assert.fail("The download should fail when the checksum does not match twice");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+        }
+        Assert.assertEquals(ranges.size(), 2);
+        Assert.assertFalse(Files.exists(target));
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip.part")));
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip.part.properties")));
+    }
+
+    @Test
+    public void segmentedChecksumMismatchTest() throws IOException {
+        content = createContent(32 * MB);
+        // The first response and the ranges of all four segments are corrupted
+        corruptResponses.set(5);
+        Path target = tempDir.resolve("file.zip");
+        download(target, sha256(content));
+
+        // The segments are hashed as they are written, and the corrupted download is downloaded once more
+        Assert.assertEquals(Files.readAllBytes(target), content);
+        Assert.assertEquals(ranges.size(), 10);
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip.part")));
+    }
+
+    @Test
+    public void resumeVerifiedDownloadTest() throws IOException {
+        Path target = interruptDownload();
+        download(target, sha256(content));
+
+        // The bytes of the interrupted download are part of the checksum of the resumed one
+        Assert.assertEquals(Files.readAllBytes(target), content);
+        Assert.assertTrue(ranges.get(ranges.size() - 1).startsWith("bytes="));
+    }
+
+    @Test
+    public void streamExtractTest() throws IOException {
+        // Large enough to be downloaded over byte ranges if it were downloaded to the zip file
+        content = createZip(32 * MB);
+        Path destination = tempDir.resolve("extracted");
+        DownloadUtil.downloadAndExtract(openConnection(), Collections.emptyMap(), tempDir.resolve("file.zip"),
+                destination, ZipUtil.UNSPECIFIED_MODE, "file.zip", printStream);
+
+        Assert.assertEquals(Files.readAllBytes(destination.resolve("dir/file.txt")), ZIP_ENTRY_CONTENT);
+        Assert.assertEquals(Files.size(destination.resolve("dir/data.bin")), 32 * MB);
+        // The archive is extracted from the single response, without writing it to disk
+        Assert.assertEquals(ranges, Collections.singletonList(""));
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip")));
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip.part")));
+    }
+
+    @Test
+    public void streamRetryTest() throws IOException {
+        content = createZip(MB);
+        corruptResponses.set(1);
+        Path destination = tempDir.resolve("extracted");
+        try (DownloadProgress progress = new DownloadProgress("Downloading file.zip", printStream)) {
+            DownloadUtil.downloadAndExtract(openConnection(), Collections.emptyMap(), tempDir.resolve("file.zip"),
+                    destination, ZipUtil.UNSPECIFIED_MODE, "file.zip", sha256(content), progress, printStream);
+        }
+
+        // The corrupted stream is retried by downloading the archive to the zip file
+        Assert.assertEquals(Files.readAllBytes(destination.resolve("dir/file.txt")), ZIP_ENTRY_CONTENT);
+        Assert.assertEquals(ranges.size(), 2);
+        Assert.assertTrue(output.toString().contains("Retrying"), output.toString());
+        Assert.assertFalse(Files.exists(tempDir.resolve("file.zip")));
+    }
+
+    @Test
+    public void streamNotFoundTest() throws IOException {
+        URL url = new URL("http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" +
+                server.getAddress().getPort() + "/missing.zip");
+        try {
+            DownloadUtil.downloadAndExtract(HttpUtil.openConnection(url, printStream), Collections.emptyMap(),
+                    tempDir.resolve("missing.zip"), tempDir.resolve("extracted"), ZipUtil.UNSPECIFIED_MODE,
+                    "missing.zip", printStream);
+            Assert.fail("The download should fail when the archive is not found");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().contains("404"), e.getMessage());
+        }
+        // An error response is not taken as an interrupted stream
+        Assert.assertFalse(output.toString().contains("Retrying"), output.toString());
+    }
+
+    @DataProvider(name = "digestHeaders")
+    public Object[][] digestHeaders() {
+        return new Object[][]{
+                {"Repr-Digest", "sha-512=:AAAA:, sha-256=:%s:"},
+                {"Digest", "MD5=AAAA, SHA-256=%s"}
+        };
+    }
+
+    @Test(dataProvider = "digestHeaders")
+    public void publishedChecksumTest(String header, String format) throws IOException {
+        content = createContent(MB);
+        digestHeader = header;
+        digestValue = String.format(format, Base64.getEncoder().encodeToString(sha256Bytes(content)));
+        corruptResponses.set(1);
+        Path target = tempDir.resolve("file.zip");
+        download(target, null);
+
+        // The checksum published by the server detects the corrupted download
+        Assert.assertEquals(Files.readAllBytes(target), content);
+        Assert.assertEquals(ranges.size(), 2);
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        OSUtils.deleteFiles(tempDir);
+    }
+
+    private HttpURLConnection openConnection() throws IOException {
+        URL url = new URL("http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" +
+                server.getAddress().getPort() + "/file.zip");
+        return HttpUtil.openConnection(url, printStream);
+    }
+
+    /**
+     * Serves the content as a whole or as the requested range, which is written slowly so that the ranges of a
+     * download overlap. A corrupted response has one bit of the content flipped.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+        ranges.add(range == null ? "" : range);
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("ETag", eTag);
+        if (acceptRanges) {
+            headers.set("Accept-Ranges", "bytes");
+        }
+        if (digestHeader != null) {
+            headers.set(digestHeader, digestValue);
+        }
+        byte[] body = content;
+        if (corruptResponses.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+            body = content.clone();
+            body[body.length / 2] ^= 1;
+        }
+        try (OutputStream out = exchange.getResponseBody()) {
+            if (range != null && acceptRanges && (ifRange == null || ifRange.equals(eTag))) {
+                String[] bounds = range.substring("bytes=".length()).split("-");
+                int start = Integer.parseInt(bounds[0]);
+                int end = Integer.parseInt(bounds[1]);
+                headers.set("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_PARTIAL, end - start + 1);
+                maxActiveRanges.accumulateAndGet(activeRanges.incrementAndGet(), Math::max);
+                try {
+                    writeThrottled(out, body, start, end + 1);
+                } finally {
+                    activeRanges.decrementAndGet();
+                }
+            } else {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, content.length);
+                // A failing server drops the connection part way through the response
+                writeThrottled(out, body, 0, failAfter < 0 ? content.length : failAfter);
+            }
+        }
+    }
+
+    private static void writeThrottled(OutputStream out, byte[] body, int start, int end) throws IOException {
+        for (int position = start; position < end; position += 256 * 1024) {
+            out.write(body, position, Math.min(256 * 1024, end - position));
+            out.flush();
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Leaves a partial download of half of a 2 MB file behind.
+     */
+    private Path interruptDownload() {
+        content = createContent(2 * MB);
+        failAfter = MB;
+        Path target = tempDir.resolve("file.zip");
+        try {
+            DownloadUtil.downloadFile(openConnection(), Collections.emptyMap(), target, "file.zip", printStream);
+            Assert.fail("The download should be interrupted");
+        } catch (IOException e) {
+            Assert.assertTrue(Files.exists(tempDir.resolve("file.zip.part")));
+        }
+        failAfter = -1;
+        return target;
+    }
+
+    private void download(Path target, String sha256) throws IOException {
+        try (DownloadProgress progress = new DownloadProgress("Downloading file.zip", printStream)) {
+            DownloadUtil.downloadFile(openConnection(), Collections.emptyMap(), target, "file.zip", sha256, progress,
+                    printStream);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : sha256Bytes(bytes)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static byte[] sha256Bytes(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] createZip(int dataLength) throws IOException {
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(zip)) {
+            // Random data does not compress, hence it is stored as is
+            zipOut.setLevel(Deflater.NO_COMPRESSION);
+            zipOut.putNextEntry(new ZipEntry("dir/"));
+            zipOut.closeEntry();
+            zipOut.putNextEntry(new ZipEntry("dir/file.txt"));
+            zipOut.write(ZIP_ENTRY_CONTENT);
+            zipOut.closeEntry();
+            zipOut.putNextEntry(new ZipEntry("dir/data.bin"));
+            zipOut.write(createContent(dataLength));
+            zipOut.closeEntry();
+        }
+        return zip.toByteArray();
+    }
+
+    private static byte[] createContent(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test cases for releasing connections of the shared HTTP client layer.
+ *
+ * @since 1.6.0
+ */
+public class HttpUtilTest {
+    private final PrintStream printStream = new PrintStream(new ByteArrayOutputStream());
+
+    @Test
+    public void releaseWithoutResponseTest() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            HttpURLConnection conn = HttpUtil.openConnection(new URL("http://" +
+                    InetAddress.getLoopbackAddress().getHostAddress() + ":" + serverSocket.getLocalPort() + "/"),
+                    printStream);
+            HttpUtil.release(conn);
+
+            // A connection without a response is not connected to read its response body
+            serverSocket.setSoTimeout(500);
+            try {
+                serverSocket.accept().close();
+                Assert.fail("The released connection should not connect to the server");
+            } catch (SocketTimeoutException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void releaseWithResponseTest() throws IOException {
+        List<Integer> clientPorts = Collections.synchronizedList(new ArrayList<>());
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            URL url = new URL("http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" +
+                    server.getAddress().getPort() + "/");
+            for (int i = 0; i < 2; i++) {
+                HttpURLConnection conn = HttpUtil.openConnection(url, printStream);
+                try {
+                    Assert.assertEquals(HttpUtil.getResponseCode(conn), HttpURLConnection.HTTP_OK);
+                    // The body is read to the end, as the callers do, so that the socket is cached right away
+                    Assert.assertNull(JsonUtil.readValues(conn.getInputStream(), "version").get("version"));
+                } finally {
+                    HttpUtil.release(conn);
+                }
+            }
+        } finally {
+            server.stop(0);
+        }
+
+        // The second request reuses the connection of the first one from the keep-alive cache
+        Assert.assertEquals(clientPorts.size(), 2);
+        Assert.assertEquals(clientPorts.get(1), clientPorts.get(0));
+    }
+}
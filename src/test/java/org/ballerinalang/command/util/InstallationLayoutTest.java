@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test cases for the installation layout.
+ *
+ * @since 1.6.0
+ */
+public class InstallationLayoutTest {
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("installation-layout-test");
+    }
+
+    @Test
+    public void resolvePathsTest() {
+        InstallationLayout layout = new InstallationLayout(tempDir, tempDir.resolve(".ballerina"));
+        Assert.assertEquals(layout.getRoot(), tempDir);
+        Assert.assertEquals(layout.getDistributionsPath(), tempDir.resolve("distributions"));
+        Assert.assertEquals(layout.getDependenciesPath(), tempDir.resolve("dependencies"));
+        Assert.assertEquals(layout.getToolUnzipPath(), tempDir.resolve("ballerina-command-tmp"));
+        Assert.assertEquals(layout.getBallerinaHome(), tempDir.resolve(".ballerina"));
+    }
+
+    @Test
+    public void createDirectoriesOnceTest() throws IOException {
+        InstallationLayout layout = new InstallationLayout(tempDir, tempDir.resolve(".ballerina"));
+        Assert.assertTrue(Files.isDirectory(layout.getDistributionsPath()));
+        Assert.assertTrue(Files.isDirectory(layout.getDependenciesPath()));
+
+        // Later lookups do not check the directories again
+        Files.delete(tempDir.resolve("distributions"));
+        Files.delete(tempDir.resolve("dependencies"));
+        for (int i = 0; i < 20; i++) {
+            layout.getDistributionsPath();
+            layout.getDependenciesPath();
+        }
+        Assert.assertFalse(Files.exists(tempDir.resolve("distributions")));
+        Assert.assertFalse(Files.exists(tempDir.resolve("dependencies")));
+    }
+
+    @Test
+    public void retryFailedDirectoryCreationTest() throws IOException {
+        // A file in place of the root prevents the directories from being created
+        Path root = Files.createFile(tempDir.resolve("root"));
+        InstallationLayout layout = new InstallationLayout(root, tempDir.resolve(".ballerina"));
+        layout.getDistributionsPath();
+
+        Files.delete(root);
+        Files.createDirectory(root);
+        Assert.assertTrue(Files.isDirectory(layout.getDistributionsPath()));
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        OSUtils.deleteFiles(tempDir);
+    }
+}
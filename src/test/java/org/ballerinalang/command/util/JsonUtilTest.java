@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Test cases for the streaming JSON readers.
+ *
+ * @since 1.6.0
+ */
+public class JsonUtilTest {
+    private static final int LARGE_INDEX_SIZE = 10000;
+
+    @Test
+    public void parseDistributionsTest() throws IOException {
+        String json = "{\"list\":[" +
+                "{\"name\":\"Swan Lake Update 4\",\"version\":\"2201.4.0\",\"type\":\"ballerina\"," +
+                "\"channel\":\"Swan Lake channel\",\"dependencies\":[{\"name\":\"jdk-11.0.18+10-jre\"," +
+                "\"sha256\":\"60303ae22b998861bce3b28f33eec1be758a213c86c93c076dbe9f558c11c752\"}," +
+                "{\"name\":\"other\",\"sha256\":\"00\"}]," +
+                "\"sha256\":\"9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08\"}," +
+                "{\"dependencies\":[{\"name\":\"jdk8u202-b08-jre\"}],\"channel\":\"1.* channel\"," +
+                "\"type\":\"jballerina\",\"version\":\"1.2.0\",\"name\":\"1.2.0\"}]}";
+        List<Distribution> distributions = JsonUtil.parseDistributions(toStream(json));
+        Assert.assertEquals(distributions.size(), 2);
+        assertDistribution(distributions.get(0), "Swan Lake Update 4", "2201.4.0", "ballerina",
+                "Swan Lake channel", "jdk-11.0.18+10-jre");
+        // Fields in a different order are read the same way
+        assertDistribution(distributions.get(1), "1.2.0", "1.2.0", "jballerina", "1.* channel",
+                "jdk8u202-b08-jre");
+        Assert.assertEquals(distributions.get(0).getSha256(),
+                "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08");
+        // Only the checksum of the first dependency belongs to the dependency of the distribution
+        Assert.assertEquals(distributions.get(0).getDependencySha256(),
+                "60303ae22b998861bce3b28f33eec1be758a213c86c93c076dbe9f558c11c752");
+        // Distributions published without a checksum are not verified
+        Assert.assertEquals(distributions.get(1).getSha256(), "");
+        Assert.assertEquals(distributions.get(1).getDependencySha256(), "");
+    }
+
+    @Test
+    public void parseLargeDistributionListTest() throws IOException {
+        List<Distribution> distributions = JsonUtil.parseDistributions(toStream(createLargeIndex()));
+        Assert.assertEquals(distributions.size(), LARGE_INDEX_SIZE);
+        assertDistribution(distributions.get(LARGE_INDEX_SIZE - 1), "Update 9999", "2201.9999.0", "ballerina",
+                "channel 0", "jdk-4");
+    }
+
+    @Test
+    public void compareWithRegexParserTest() throws IOException {
+        String json = createLargeIndex();
+        List<Distribution> expected = parseWithRegex(toStream(json));
+        List<Distribution> distributions = JsonUtil.parseDistributions(toStream(json));
+        Assert.assertEquals(distributions.size(), expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Distribution distribution = expected.get(i);
+            assertDistribution(distributions.get(i), distribution.getName(), distribution.getVersion(),
+                    distribution.getType(), distribution.getChannel(), distribution.getDependency());
+        }
+    }
+
+    @Test
+    public void readValuesTest() throws IOException {
+        Map<String, String> values = JsonUtil.readValues(toStream("{\"version\":\"1.5.0\",\"compatibility\":true}"),
+                "version", "compatibility");
+        Assert.assertEquals(values.get("version"), "1.5.0");
+        Assert.assertEquals(values.get("compatibility"), "true");
+
+        values = JsonUtil.readValues(toStream("{\"patch\":\"2201.4.1\"}"), "minor");
+        Assert.assertNull(values.get("minor"));
+
+        // Values nested in an array or an object are not read as the value of the outer key
+        values = JsonUtil.readValues(toStream("{\"patch\":[\"2201.4.1\"],\"minor\":{\"version\":\"2201.5.0\"}," +
+                "\"major\":\"2201.6.0\"}"), "patch", "minor", "version", "major");
+        Assert.assertNull(values.get("patch"));
+        Assert.assertNull(values.get("minor"));
+        Assert.assertEquals(values.get("version"), "2201.5.0");
+        Assert.assertEquals(values.get("major"), "2201.6.0");
+    }
+
+    private static String createLargeIndex() {
+        StringBuilder json = new StringBuilder("{\"list\":[");
+        for (int i = 0; i < LARGE_INDEX_SIZE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"Update ").append(i).append("\",\"version\":\"2201.").append(i)
+                    .append(".0\",\"type\":\"ballerina\",\"channel\":\"channel ").append(i % 3)
+                    .append("\",\"dependencies\":[{\"name\":\"jdk-").append(i % 5).append("\"}]}");
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    /**
+     * Parses the distributions the way the update tool did before the streaming reader, which reads the whole
+     * response and matches each field over it, relying on the name of a distribution and of its dependency
+     * alternating.
+     */
+    private static List<Distribution> parseWithRegex(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                sb.append(line).append("\n");
+            }
+        }
+        String json = sb.toString();
+        List<Distribution> distributions = new ArrayList<>();
+        Matcher matcher = Pattern.compile("\"version\":\"(.*?)\"").matcher(json);
+        while (matcher.find()) {
+            distributions.add(new Distribution(matcher.group(1)));
+        }
+        matcher = Pattern.compile("\"type\":\"(.*?)\"").matcher(json);
+        int i = 0;
+        while (matcher.find()) {
+            distributions.get(i++).setType(matcher.group(1));
+        }
+        matcher = Pattern.compile("\"channel\":\"(.*?)\"").matcher(json);
+        i = 0;
+        while (matcher.find()) {
+            distributions.get(i++).setChannel(matcher.group(1));
+        }
+        matcher = Pattern.compile("\"name\":\"(.*?)\"").matcher(json);
+        int distIndex = 0;
+        int count = 0;
+        while (matcher.find()) {
+            if (count++ % 2 == 0) {
+                distributions.get(distIndex).setName(matcher.group(1));
+            } else {
+                distributions.get(distIndex).setDependency(matcher.group(1));
+                distIndex++;
+            }
+        }
+        return distributions;
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertDistribution(Distribution distribution, String name, String version, String type,
+                                           String channel, String dependency) {
+        Assert.assertEquals(distribution.getName(), name);
+        Assert.assertEquals(distribution.getVersion(), version);
+        Assert.assertEquals(distribution.getType(), type);
+        Assert.assertEquals(distribution.getChannel(), channel);
+        Assert.assertEquals(distribution.getDependency(), dependency);
+    }
+}
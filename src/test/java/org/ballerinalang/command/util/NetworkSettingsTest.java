@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test cases for the network settings snapshot.
+ *
+ * @since 1.6.0
+ */
+public class NetworkSettingsTest {
+    private Path tempDir;
+    private File settingsFile;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("network-settings-test");
+        settingsFile = tempDir.resolve("Settings.toml").toFile();
+    }
+
+    @Test
+    public void readProxyTest() throws IOException {
+        writeSettings("[proxy]\nhost = \"proxy.example.com\"\nport = 3128\nuser = \"alice\"\npassword = \"secret\"\n");
+        NetworkSettings settings = NetworkSettings.getInstance(settingsFile);
+        Assert.assertTrue(settings.isProxyDefined());
+        InetSocketAddress address = (InetSocketAddress) settings.getProxy().address();
+        Assert.assertEquals(address.getHostString(), "proxy.example.com");
+        Assert.assertEquals(address.getPort(), 3128);
+        Assert.assertEquals(settings.getProxyUser(), "alice");
+        Assert.assertEquals(settings.getProxyPassword(), "secret");
+    }
+
+    @Test
+    public void invalidProxyPortTest() throws IOException {
+        writeSettings("[proxy]\nhost = \"proxy.example.com\"\nport = 70000\n");
+        NetworkSettings settings = NetworkSettings.getInstance(settingsFile);
+        Assert.assertTrue(settings.isProxyDefined());
+        Assert.assertNull(settings.getProxy());
+    }
+
+    @Test
+    public void missingSettingsFileTest() {
+        NetworkSettings settings = NetworkSettings.getInstance(settingsFile);
+        Assert.assertFalse(settings.isProxyDefined());
+        Assert.assertNull(settings.getProxy());
+        Assert.assertTrue(settings.getProxyConfigs().isEmpty());
+    }
+
+    @Test
+    public void reloadModifiedSettingsTest() throws IOException {
+        writeSettings("[proxy]\nhost = \"proxy.example.com\"\nport = 3128\n");
+        NetworkSettings settings = NetworkSettings.getInstance(settingsFile);
+        // The file is not parsed again while it is not modified
+        Assert.assertSame(NetworkSettings.getInstance(settingsFile), settings);
+
+        writeSettings("[central]\naccesstoken = \"token\"\n");
+        NetworkSettings modifiedSettings = NetworkSettings.getInstance(settingsFile);
+        Assert.assertNotSame(modifiedSettings, settings);
+        Assert.assertFalse(modifiedSettings.isProxyDefined());
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        OSUtils.deleteFiles(tempDir);
+    }
+
+    private void writeSettings(String content) throws IOException {
+        Files.write(settingsFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
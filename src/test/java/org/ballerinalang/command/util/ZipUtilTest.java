@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.command.util;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Test cases for the zip extractors.
+ *
+ * @since 1.6.0
+ */
+public class ZipUtilTest {
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("zip-util-test");
+    }
+
+    @Test
+    public void extractStreamTest() throws IOException {
+        byte[] archive = createArchive("ballerina-2201.4.0/", "ballerina-2201.4.0/bin/bal",
+                "ballerina-2201.4.0/lib/tools/lang-server/launcher/language-server-launcher.sh");
+        Path destination = tempDir.resolve("distributions");
+        ZipUtil.extract(new ByteArrayInputStream(archive), destination, ZipUtil.UNSPECIFIED_MODE);
+        Assert.assertEquals(readFile(destination.resolve("ballerina-2201.4.0/bin/bal")),
+                "ballerina-2201.4.0/bin/bal");
+        // Parent directories without a directory entry are created as well
+        Assert.assertTrue(Files.exists(destination.resolve(
+                "ballerina-2201.4.0/lib/tools/lang-server/launcher/language-server-launcher.sh")));
+    }
+
+    @Test
+    public void extractFileTest() throws IOException {
+        String[] entries = new String[200];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = "jdk-11.0.18+10-jre/lib/dir" + (i % 7) + "/file" + i;
+        }
+        Path zipFile = tempDir.resolve("jdk-11.0.18+10-jre.zip");
+        Files.write(zipFile, createArchive(entries));
+        Path destination = tempDir.resolve("dependencies");
+        ZipUtil.extract(zipFile, destination, ZipUtil.UNSPECIFIED_MODE);
+        for (String entry : entries) {
+            Assert.assertEquals(readFile(destination.resolve(entry)), entry);
+        }
+    }
+
+    @Test
+    public void extractPermissionsTest() throws IOException {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            throw new SkipException("POSIX permissions are not supported");
+        }
+        byte[] archive = createArchive("jdk/bin/java", "jdk/legal/LICENSE", "jdk/lib/modules");
+        setUnixMode(archive, "jdk/bin/java", 0755);
+        setUnixMode(archive, "jdk/legal/LICENSE", 0444);
+
+        Path zipFile = tempDir.resolve("jdk.zip");
+        Files.write(zipFile, archive);
+        ZipUtil.extract(zipFile, tempDir.resolve("file"), ZipUtil.EXECUTABLE_MODE);
+        ZipUtil.extract(new ByteArrayInputStream(archive), tempDir.resolve("stream"), ZipUtil.EXECUTABLE_MODE);
+        for (String destination : new String[]{"file", "stream"}) {
+            Path jdk = tempDir.resolve(destination).resolve("jdk");
+            Assert.assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(
+                    jdk.resolve("bin/java"))), "rwxr-xr-x");
+            // Files are kept writable by the owner so that they can be removed
+            Assert.assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(
+                    jdk.resolve("legal/LICENSE"))), "rw-r--r--");
+            // Entries without a recorded mode get the default mode
+            Assert.assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(
+                    jdk.resolve("lib/modules"))), "rwxr-xr-x");
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void extractEntryOutsideDestinationTest() throws IOException {
+        byte[] archive = createArchive("../outside.txt");
+        ZipUtil.extract(new ByteArrayInputStream(archive), tempDir.resolve("distributions"),
+                ZipUtil.UNSPECIFIED_MODE);
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        OSUtils.deleteFiles(tempDir);
+    }
+
+    /**
+     * Creates an archive of the given entries where the content of each file is its name.
+     */
+    static byte[] createArchive(String... entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            for (String entry : entries) {
+                zipOut.putNextEntry(new ZipEntry(entry));
+                if (!entry.endsWith("/")) {
+                    zipOut.write(entry.getBytes(StandardCharsets.UTF_8));
+                }
+                zipOut.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Records a Unix mode for the given entry in the central directory of the archive, as zip tools on Unix do.
+     */
+    private static void setUnixMode(byte[] archive, String name, int mode) {
+        ByteBuffer buffer = ByteBuffer.wrap(archive).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        for (int position = 0; position + 46 < archive.length; position++) {
+            if (buffer.getInt(position) != 0x02014b50 || (buffer.getShort(position + 28) & 0xFFFF) != nameBytes.length
+                    || !new String(archive, position + 46, nameBytes.length, StandardCharsets.UTF_8).equals(name)) {
+                continue;
+            }
+            buffer.putShort(position + 4, (short) (3 << 8 | 20));
+            buffer.putInt(position + 38, (0100000 | mode) << 16);
+            return;
+        }
+        throw new IllegalArgumentException("entry '" + name + "' not found");
+    }
+
+    static String readFile(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+}